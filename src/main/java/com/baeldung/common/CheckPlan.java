@@ -0,0 +1,149 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Decides before any browser work which urls of the {@link UrlCatalog} a check runs on, as a bitmap over the catalog indexes.
+ * <br/>
+ * A url is planned for a check when it has the page type of the check and isn't excluded for every test name the check reports,
+ * either by the url exceptions or by the wp tag exceptions. Urls out of the shard or excluded from all tests are never planned.
+ * <br/>
+ * The wp tags are taken from the pages loaded so far, see {@link #learnWpTags(String, Set)}, and for the other urls from the catalog,
+ * where {@link #saveWpTags(Path)} keeps the learned ones. So the later checks of a run, and the next runs, skip more urls without loading them.
+ */
+@ThreadSafe
+public class CheckPlan {
+
+    private static CheckPlan defaultPlan;
+
+    private final UrlCatalog catalog;
+    // in the shard and not excluded from all tests
+    private final BitSet candidates;
+    private final Map<String, BitSet> excludedUrls = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> loadedWpTags = new ConcurrentHashMap<>();
+    // learned since the last save
+    private final AtomicBoolean wpTagsChanged = new AtomicBoolean();
+
+    CheckPlan(UrlCatalog catalog, UrlShard shard) {
+        this.catalog = catalog;
+        final BitSet candidates = new BitSet(catalog.size());
+        final UrlCatalog.Cursor cursor = catalog.cursor();
+        while (cursor.next()) {
+            if (shard.contains(cursor.url())) {
+                candidates.set(cursor.getIndex());
+            }
+        }
+        candidates.andNot(catalog.findMatching(YAMLProperties.exceptionsForTests.get(GlobalConstants.givenAllLongRunningTests_whenHittingAllUrls_thenOK), true));
+        this.candidates = candidates;
+    }
+
+    /**
+     * Plans the default catalog, only the urls of the shard set via the system properties.
+     */
+    public static synchronized CheckPlan getDefault() throws IOException {
+        if (defaultPlan == null) {
+            defaultPlan = new CheckPlan(UrlCatalog.getDefault(), UrlShard.fromSystemProperties());
+        }
+        return defaultPlan;
+    }
+
+    /**
+     * @param type like: {@link com.baeldung.site.SitePage.Type#ARTICLE}
+     * @param testNames reported by the check, none to run on every url of the type
+     * @return indexes of the urls to run the check on
+     */
+    public BitSet plan(Object type, Collection<String> testNames) {
+        final BitSet planned = new BitSet(catalog.size());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (catalog.getType(i)
+                .equals(type.toString())) {
+                planned.set(i);
+            }
+        }
+        BitSet excludedForAll = null;
+        for (String testName : testNames) {
+            final BitSet excluded = findExcluded(testName);
+            if (excludedForAll == null) {
+                excludedForAll = excluded;
+            } else {
+                excludedForAll.and(excluded);
+            }
+        }
+        if (excludedForAll != null) {
+            planned.andNot(excludedForAll);
+        }
+        return planned;
+    }
+
+    public Iterator<String> iterator(BitSet planned) {
+        return catalog.iterator(planned);
+    }
+
+    /**
+     * Keeps the wp tags of a loaded page for the checks planned afterwards.
+     *
+     * @param url relative url as in the url catalog, like: /java-streams
+     */
+    public void learnWpTags(String url, Set<String> wpTags) {
+        if (wpTags != null && !wpTags.isEmpty()) {
+            final Set<String> tags = Set.copyOf(wpTags);
+            if (!tags.equals(loadedWpTags.put(url, tags))) {
+                wpTagsChanged.set(true);
+            }
+        }
+    }
+
+    /**
+     * Writes the wp tags learned since the last save into the catalog file, for the next runs.
+     * The catalog opened by this plan isn't reloaded.
+     */
+    public void saveWpTags(Path catalogFile) throws IOException {
+        if (wpTagsChanged.getAndSet(false)) {
+            UrlCatalogWriter.updateWpTags(catalog, Map.copyOf(loadedWpTags), catalogFile);
+        }
+    }
+
+    private BitSet findExcluded(String testName) {
+        final BitSet excluded = (BitSet) excludedUrls.computeIfAbsent(testName, this::findExcludedUrls)
+            .clone();
+        if (Utils.hasSkipTags(testName)) {
+            excluded.or(findExcludedByWpTags(Utils.getSkipTags(testName)));
+        }
+        return excluded;
+    }
+
+    private BitSet findExcludedUrls(String testName) {
+        final List<String> exceptions = YAMLProperties.exceptionsForTests.get(testName);
+        // some checks compare without the trailing slash, only the urls excluded either way are never loaded
+        final BitSet excluded = catalog.findMatching(exceptions, true);
+        excluded.and(catalog.findMatching(exceptions, false));
+        return excluded;
+    }
+
+    private BitSet findExcludedByWpTags(Set<String> skipTags) {
+        final BitSet excluded = new BitSet(catalog.size());
+        final UrlCatalog.Cursor cursor = catalog.cursor();
+        while (cursor.next()) {
+            Set<String> wpTags = loadedWpTags.get(cursor.url());
+            if (wpTags == null && catalog.hasWpTags(cursor.getIndex())) {
+                wpTags = catalog.getWpTags(cursor.getIndex());
+            }
+            if (wpTags != null && Utils.excludePage(wpTags, skipTags)) {
+                excluded.set(cursor.getIndex());
+            }
+        }
+        return excluded;
+    }
+
+}
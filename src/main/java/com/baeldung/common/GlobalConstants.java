@@ -15,6 +15,38 @@ public class GlobalConstants {
     public static final String ENV_PROPERTY_TARGET_ENV = "target.env";
     public static final String ENV_PROPERTY_HEADLESS_BROWSER_NAME = "headless.browser.name";
     public static final String ENV_PROPERTY_CONCURRENCY_LEVEL = "concurrency.level";
+    public static final String ENV_PROPERTY_CONCURRENCY_ADAPTIVE = "concurrency.adaptive";
+    public static final String ENV_PROPERTY_CONCURRENCY_MIN = "concurrency.min";
+    public static final String ENV_PROPERTY_CONCURRENCY_MAX = "concurrency.max";
+    public static final String ENV_PROPERTY_CONCURRENCY_ADJUST_INTERVAL = "concurrency.adjust.interval.seconds";
+    public static final String ENV_PROPERTY_RATE_LIMIT_PREFIX = "rate.limit.";
+    public static final String ENV_PROPERTY_BROWSER_PROFILE = "browser.profile";
+    public static final String ENV_PROPERTY_BROWSER_DISK_CACHE_DIR = "browser.disk-cache.dir";
+    public static final String ENV_PROPERTY_BROWSER_DOCUMENT_RESPONSE = "browser.document-response";
+    public static final String ENV_PROPERTY_SHARD_INDEX = "shard.index";
+    public static final String ENV_PROPERTY_SHARD_COUNT = "shard.count";
+    public static final String ENV_PROPERTY_SHARD_RESULT_DIR = "shard.result.dir";
+    public static final String ENV_PROPERTY_PROGRESS_JOURNAL = "progress.journal";
+    public static final String ENV_PROPERTY_VERDICT_STORE = "verdict.store";
+    public static final String ENV_PROPERTY_VERDICT_STORE_MAX_AGE = "verdict.store.max-age.days";
+    public static final String ENV_PROPERTY_TIMING_REPORT = "timing.report";
+    public static final String ENV_PROPERTY_WEB_PERFORMANCE_HISTORY = "web-performance.history";
+    public static final String ENV_PROPERTY_WEB_PERFORMANCE_HISTORY_RUNS = "web-performance.history.runs";
+    public static final String ENV_PROPERTY_WEB_PERFORMANCE_BUDGET_PREFIX = "web-performance.budget.";
+    public static final String ENV_PROPERTY_WEB_PERFORMANCE_REGRESSION_TOLERANCE = "web-performance.regression.tolerance";
+    public static final String ENV_PROPERTY_PROGRESS_INTERVAL = "progress.interval.seconds";
+    public static final String ENV_PROPERTY_JFR_DUMP_DIR = "jfr.dump.dir";
+    public static final String ENV_PROPERTY_FAILURE_SINK_DIR = "failure.sink.dir";
+    public static final String ENV_PROPERTY_FAILURE_REPORT_MAX_PER_TEST = "failure.report.max-per-test";
+    public static final String ENV_PROPERTY_RETRY_MAX_ATTEMPTS = "retry.max-attempts";
+    public static final String ENV_PROPERTY_RETRY_BACKOFF_MILLIS = "retry.backoff.millis";
+    public static final String ENV_PROPERTY_URL_CATALOG = "url.catalog";
+
+    public static final String DEFAULT_SHARD_RESULT_DIR = "target/shard-results";
+    public static final String DEFAULT_TIMING_REPORT = "target/timing-report.json";
+    public static final String DEFAULT_JFR_DUMP_DIR = "target/jfr";
+    public static final String DEFAULT_FAILURE_SINK_DIR = "target/failures";
+    public static final String DEFAULT_URL_CATALOG = "target/url-catalog.bin";
 
     public static final String[] DEFAULT_SPRING_PROFILE = new String[] { "local", "headless-browser" };
 
@@ -44,6 +76,7 @@ public class GlobalConstants {
     public static final String ALL_PAGES_FILE_NAME = "all-pages.txt";
     public static final String SAMPLE_PAGES_FILE_NAME = "sample-pages.txt";
     public static final String COURSE_PAGES_FILE_NAME = "course-pages.txt";
+    public static final String URL_CATALOG_FILE_NAME = "url-catalog.bin";
 
     public static final String BLOG_URL_LIST_RESOUCE_FOLDER_PATH = "./blog-url-list/";
 
@@ -260,6 +293,9 @@ public class GlobalConstants {
     public static final String givenAllPages_whenAPageLoads_thenTheMetaDescriptionExists = "givenAllPages_whenAPageLoads_thenTheMetaDescriptionExists";
     public static final String givenAllArticlesAndPages_whenAPageLoads_thenMetaOGImageAndTwitterImagePointToTheAbsolutePath = "givenAllArticlesAndPages_whenAPageLoads_thenMetaOGImageAndTwitterImagePointToTheAbsolutePath";
     public static final String givenAllArticlesAndPages_whenAPageLoads_thenItHasAFeaturedImage = "givenAllArticlesAndPages_whenAPageLoads_thenItHasAFeaturedImage";
+    public static final String givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK = "givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK";
+    public static final String givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken = "givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken";
+    public static final String givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget = "givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget";
     public static final String givenAllArticles_whenAnArticleLoads_thenTheArticleDoesNotCotainWrongQuotations = "givenAllArticles_whenAnArticleLoads_thenTheArticleDoesNotCotainWrongQuotations";
     public static final String givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperTitleCapitalization = "givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperTitleCapitalization";
     public static final String givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperDotsInTitle = "givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperDotsInTitle";
@@ -0,0 +1,173 @@
+package com.baeldung.common;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Token bucket rate limits per host, shared by every HTTP path: WebDriver loads, jsoup fetches, RestAssured calls and crawler4j.
+ * A limit applies to the host and its subdomains, hosts without a limit are not throttled.
+ * <br/>
+ * Set via -Drate.limit.&lt;host&gt;=&lt;permits per second&gt;[:&lt;burst&gt;], e.g. -Drate.limit.github.com=1:3
+ */
+@ThreadSafe
+public class HostRateLimits {
+
+    private static final Logger logger = LoggerFactory.getLogger(HostRateLimits.class);
+
+    static final Map<String, String> DEFAULT_LIMITS = ImmutableMap.of(
+        GlobalConstants.BAELDUNG_DOMAIN_NAME, "10:10",
+        "github.com", "0.67:1",
+        "raw.githubusercontent.com", "2:2");
+
+    private static final TokenBucket UNLIMITED = new TokenBucket(Double.POSITIVE_INFINITY, 1, System::nanoTime);
+
+    private static volatile HostRateLimits defaultInstance;
+
+    private final Map<String, TokenBucket> limits;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    HostRateLimits(Map<String, String> limits, LongSupplier clock) {
+        final Map<String, TokenBucket> parsed = new LinkedHashMap<>();
+        limits.forEach((host, limit) -> parsed.put(host.toLowerCase(), TokenBucket.parse(limit, clock)));
+        this.limits = parsed;
+    }
+
+    public static HostRateLimits getDefault() {
+        if (defaultInstance == null) {
+            synchronized (HostRateLimits.class) {
+                if (defaultInstance == null) {
+                    defaultInstance = new HostRateLimits(fromProperties(System.getProperties()), System::nanoTime);
+                }
+            }
+        }
+        return defaultInstance;
+    }
+
+    static Map<String, String> fromProperties(Properties properties) {
+        final Map<String, String> limits = new LinkedHashMap<>(DEFAULT_LIMITS);
+        properties.stringPropertyNames()
+            .stream()
+            .filter(name -> name.startsWith(GlobalConstants.ENV_PROPERTY_RATE_LIMIT_PREFIX))
+            .forEach(name -> limits.put(name.substring(GlobalConstants.ENV_PROPERTY_RATE_LIMIT_PREFIX.length()), properties.getProperty(name)));
+        return limits;
+    }
+
+    /**
+     * Blocks until the host of the url can be hit.
+     *
+     * @return nanos waited
+     */
+    public long acquire(String url) {
+        final String host = getHost(url);
+        return host != null ? bucketFor(host).acquire() : 0;
+    }
+
+    public long acquire(URL url) {
+        return bucketFor(url.getHost()).acquire();
+    }
+
+    TokenBucket bucketFor(String host) {
+        final String key = host.toLowerCase();
+        final TokenBucket bucket = buckets.get(key);
+        return bucket != null ? bucket : buckets.computeIfAbsent(key, this::findLimit);
+    }
+
+    private TokenBucket findLimit(String host) {
+        for (String domain = host; domain != null; domain = parentDomain(domain)) {
+            final TokenBucket limit = limits.get(domain);
+            if (limit != null) {
+                return limit;
+            }
+        }
+        return UNLIMITED;
+    }
+
+    private static String parentDomain(String host) {
+        final int dot = host.indexOf('.');
+        return dot < 0 ? null : host.substring(dot + 1);
+    }
+
+    private static String getHost(String url) {
+        try {
+            return URI.create(url.trim())
+                .getHost();
+        } catch (IllegalArgumentException e) {
+            logger.debug("Not throttling the invalid url: {}", url);
+            return null;
+        }
+    }
+
+    /**
+     * Permits are reserved under the lock and waited for outside of it, so the callers are spaced out evenly.
+     */
+    static class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double burst;
+        private final LongSupplier clock;
+
+        // guarded by this
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(double permitsPerSecond, double burst, LongSupplier clock) {
+            if (permitsPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("Invalid rate limit " + permitsPerSecond + ":" + burst);
+            }
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.burst = burst;
+            this.clock = clock;
+            this.tokens = burst;
+            this.lastRefill = clock.getAsLong();
+        }
+
+        static TokenBucket parse(String limit, LongSupplier clock) {
+            final String[] values = limit.trim()
+                .split(":");
+            final double permitsPerSecond = Double.parseDouble(values[0]);
+            final double burst = values.length > 1 ? Double.parseDouble(values[1]) : Math.max(1, permitsPerSecond);
+            return new TokenBucket(permitsPerSecond, burst, clock);
+        }
+
+        /**
+         * @return nanos to wait before the reserved permit can be used
+         */
+        synchronized long reserve() {
+            if (Double.isInfinite(permitsPerNano)) {
+                return 0;
+            }
+            final long now = clock.getAsLong();
+            tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+
+        long acquire() {
+            final long waitNanos = reserve();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread()
+                        .interrupt();
+                }
+            }
+            return waitNanos;
+        }
+    }
+
+}
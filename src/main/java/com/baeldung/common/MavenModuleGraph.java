@@ -0,0 +1,162 @@
+package com.baeldung.common;
+
+import static com.baeldung.common.GlobalConstants.POM_FILE_NAME_LOWERCASE;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.vo.MavenProjectVO;
+
+/**
+ * Parent/child graph of the maven modules of a repository, see {@link com.baeldung.filevisitor.MavenModulesDetailsFileVisitor}.
+ * <br/>
+ * Modules are indexed both by their directory path and by their artifactId, so a module declaration
+ * (<code>&lt;module&gt;some/dir&lt;/module&gt;</code>) is resolved with a hash lookup instead of a scan over all modules.
+ */
+public class MavenModuleGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(MavenModuleGraph.class);
+
+    private final Path repoLocalPath;
+
+    private final Map<String, MavenProjectVO> modulesByPath = new HashMap<>();
+    private final Map<String, MavenProjectVO> modulesByArtifactId = new HashMap<>();
+
+    public MavenModuleGraph(String repoLocalPath, Collection<MavenProjectVO> modules) {
+        this.repoLocalPath = Paths.get(repoLocalPath).normalize();
+        for (MavenProjectVO module : modules) {
+            modulesByPath.put(getModuleDirectory(module), module);
+            modulesByArtifactId.put(module.getArtifactId(), module);
+        }
+        buildParentChildRelation();
+    }
+
+    /**
+     * Links each module to the children declared in its <code>&lt;modules&gt;</code> section.
+     * Children are resolved relative to the parent directory first, then by artifactId.
+     */
+    private void buildParentChildRelation() {
+        for (MavenProjectVO module : modulesByPath.values()) {
+            if (module.getChildModules() == null) {
+                continue;
+            }
+            final Path moduleDirectory = Paths.get(getModuleDirectory(module));
+            for (String childModule : module.getChildModules()) {
+                MavenProjectVO child = resolve(moduleDirectory, childModule);
+                if (child == null) {
+                    logger.warn("CHILD MODULE NOT FOUND: {} declared in {}", childModule, module.getPomFileLocation());
+                    continue;
+                }
+                child.setParent(module);
+                module.getChildren().add(child);
+            }
+        }
+    }
+
+    /**
+     * Resolves a module declaration of the root pom, e.g. a module listed in a profile.
+     *
+     * @param module module as declared in the root pom, like: "core-java-modules/core-java"
+     * @return resolved module or null
+     */
+    public MavenProjectVO findModule(String module) {
+        return resolve(repoLocalPath, module);
+    }
+
+    public MavenProjectVO findModuleByPath(Path moduleDirectory) {
+        return modulesByPath.get(moduleDirectory.normalize().toString());
+    }
+
+    public MavenProjectVO findModuleByArtifactId(String artifactId) {
+        return modulesByArtifactId.get(artifactId);
+    }
+
+    public Collection<MavenProjectVO> getModules() {
+        return Collections.unmodifiableCollection(modulesByPath.values());
+    }
+
+    /**
+     * Collects every module reachable from the given root pom module declarations, in a single breadth-first pass.
+     * Each module is visited only once even if it's reachable from several roots.
+     *
+     * @param rootModules module declarations of the root pom
+     * @return built modules
+     */
+    public Set<MavenProjectVO> findBuiltModules(Collection<String> rootModules) {
+        final Set<MavenProjectVO> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<MavenProjectVO> queue = new ArrayDeque<>();
+        for (String rootModule : rootModules) {
+            MavenProjectVO module = findModule(rootModule);
+            if (module == null) {
+                logger.error(ConsoleColors.redBoldMessage("Couldn't retrieve MavenProjectVO for {}, perhaps module directory and artifactId don't match"), rootModule);
+                continue;
+            }
+            if (visited.add(module)) {
+                queue.add(module);
+            }
+        }
+        while (!queue.isEmpty()) {
+            for (MavenProjectVO child : queue.poll().getChildren()) {
+                if (visited.add(child)) {
+                    queue.add(child);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Marks all modules built by the given profiles, see {@link #findBuiltModules(Collection)}.
+     *
+     * @param modulesForProfiles profile id to module declarations
+     * @param marker e.g. <code>module -> module.setBuildInDefaultProfile(true)</code>
+     */
+    public void markBuiltModules(Map<String, List<String>> modulesForProfiles, Consumer<MavenProjectVO> marker) {
+        final List<String> rootModules = modulesForProfiles.values()
+            .stream()
+            .flatMap(List::stream)
+            .toList();
+        findBuiltModules(rootModules).forEach(marker);
+    }
+
+    public void markBuiltInDefaultProfile(Map<String, List<String>> defaultProfiles) {
+        markBuiltModules(defaultProfiles, module -> module.setBuildInDefaultProfile(true));
+    }
+
+    public void markBuiltInIntegrationProfile(Map<String, List<String>> integrationProfiles) {
+        markBuiltModules(integrationProfiles, module -> module.setBuildInIntegrationProfile(true));
+    }
+
+    private MavenProjectVO resolve(Path baseDirectory, String module) {
+        MavenProjectVO found = findModuleByPath(baseDirectory.resolve(module));
+        if (found == null) {
+            found = findModuleByArtifactId(getArtifactId(module));
+        }
+        return found;
+    }
+
+    private static String getModuleDirectory(MavenProjectVO module) {
+        Path pomFile = Paths.get(module.getPomFileLocation()).normalize();
+        return POM_FILE_NAME_LOWERCASE.equalsIgnoreCase(pomFile.getFileName().toString())
+            ? pomFile.getParent().toString()
+            : pomFile.toString();
+    }
+
+    private static String getArtifactId(String module) {
+        return module.contains("/") ? module.substring(module.lastIndexOf("/") + 1) : module;
+    }
+
+}
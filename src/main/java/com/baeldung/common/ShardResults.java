@@ -0,0 +1,146 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.vo.ShardResultVO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Writes and merges the result files of the {@link UrlShard}s, like: target/shard-results/shard-0-of-4.json
+ * <br/>
+ * The result directory can be set via: -Dshard.result.dir=target/shard-results
+ */
+public class ShardResults {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardResults.class);
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static ShardResultVO current;
+
+    public static Path getResultDirectory() {
+        return Paths.get(System.getProperty(GlobalConstants.ENV_PROPERTY_SHARD_RESULT_DIR, GlobalConstants.DEFAULT_SHARD_RESULT_DIR));
+    }
+
+    public static Path getResultFile(Path resultDirectory, UrlShard shard) {
+        return resultDirectory.resolve("shard-" + shard.getIndex() + "-of-" + shard.getCount() + ".json");
+    }
+
+    /**
+     * Adds the results of a test to the results of this shard and rewrites its result file,
+     * so the file is complete whenever the run stops.
+     */
+    public static synchronized void record(UrlShard shard, Multimap<String, String> badURLs, Multimap<Integer, String> resultsForGitHubHttpStatusTest, int failures,
+        Map<String, Integer> executedTests, Map<String, Integer> failedTests) throws IOException {
+        if (current == null) {
+            current = new ShardResultVO(shard.getIndex(), shard.getCount());
+        }
+        badURLs.asMap()
+            .forEach((test, urls) -> current.getBadURLs()
+                .computeIfAbsent(test, key -> new ArrayList<>())
+                .addAll(urls));
+        if (resultsForGitHubHttpStatusTest != null) {
+            resultsForGitHubHttpStatusTest.asMap()
+                .forEach((status, urls) -> current.getResultsForGitHubHttpStatusTest()
+                    .computeIfAbsent(status, key -> new ArrayList<>())
+                    .addAll(urls));
+        }
+        // the metrics are cumulative for the whole run
+        current.setFailures(failures);
+        current.setExecutedTests(new LinkedHashMap<>(executedTests));
+        current.setFailedTests(new LinkedHashMap<>(failedTests));
+        write(getResultFile(getResultDirectory(), shard), current);
+    }
+
+    public static void write(Path file, ShardResultVO result) throws IOException {
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(tempFile.toFile(), result);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    public static List<ShardResultVO> readAll(Path resultDirectory) throws IOException {
+        final List<ShardResultVO> results = new ArrayList<>();
+        try (var files = Files.newDirectoryStream(resultDirectory, "shard-*.json")) {
+            for (Path file : files) {
+                results.add(objectMapper.readValue(file.toFile(), ShardResultVO.class));
+            }
+        }
+        results.sort(Comparator.comparingInt(ShardResultVO::getShardIndex));
+        return results;
+    }
+
+    /**
+     * Merges the results of all shards of a run, in shard order.
+     *
+     * @throws IllegalStateException if the results are of different runs or a shard is missing
+     */
+    public static ShardResultVO merge(Collection<ShardResultVO> results) {
+        final Set<Integer> shardCounts = results.stream()
+            .map(ShardResultVO::getShardCount)
+            .collect(Collectors.toSet());
+        if (shardCounts.size() != 1) {
+            throw new IllegalStateException("Expected the results of a single sharded run but found shard counts: " + shardCounts);
+        }
+        final int shardCount = shardCounts.iterator().next();
+        final Set<Integer> missingShards = IntStream.range(0, shardCount)
+            .boxed()
+            .collect(Collectors.toCollection(TreeSet::new));
+        results.forEach(result -> missingShards.remove(result.getShardIndex()));
+        if (!missingShards.isEmpty()) {
+            throw new IllegalStateException("Missing results of shards: " + missingShards);
+        }
+
+        final ShardResultVO merged = new ShardResultVO(0, 1);
+        for (ShardResultVO result : results) {
+            merged.setFailures(merged.getFailures() + result.getFailures());
+            result.getExecutedTests()
+                .forEach((test, count) -> merged.getExecutedTests()
+                    .merge(test, count, Integer::sum));
+            result.getFailedTests()
+                .forEach((test, count) -> merged.getFailedTests()
+                    .merge(test, count, Integer::sum));
+            result.getBadURLs()
+                .forEach((test, urls) -> merged.getBadURLs()
+                    .computeIfAbsent(test, key -> new ArrayList<>())
+                    .addAll(urls));
+            result.getResultsForGitHubHttpStatusTest()
+                .forEach((status, urls) -> merged.getResultsForGitHubHttpStatusTest()
+                    .computeIfAbsent(status, key -> new ArrayList<>())
+                    .addAll(urls));
+        }
+        logger.info("Merged the results of {} shards", shardCount);
+        return merged;
+    }
+
+    public static <K> Multimap<K, String> toMultimap(Map<K, List<String>> results) {
+        final Multimap<K, String> multimap = ArrayListMultimap.create();
+        results.forEach(multimap::putAll);
+        return multimap;
+    }
+
+}
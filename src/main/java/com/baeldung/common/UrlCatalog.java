@@ -0,0 +1,389 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Memory-mapped catalog of the blog urls, generated from the url list files by {@link UrlCatalogWriter}.
+ * It also keeps the wp tags of the urls, learned by {@link CheckPlan} from the pages loaded in the previous runs.
+ * <br/>
+ * Urls keep the order of the url list files, once per type, and are front-coded, so a {@link Cursor} decodes them one after another into a reused buffer
+ * without allocating per url. The catalog itself is thread-safe, a cursor must be used by a single thread.
+ */
+@ThreadSafe
+public class UrlCatalog {
+
+    private static UrlCatalog defaultCatalog;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int blockSize;
+    private final String[] types;
+    private final String[] wpTags;
+    private final int blocksPosition;
+    private final int typesPosition;
+    private final int wpTagsPosition;
+    private final int dataPosition;
+
+    private UrlCatalog(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int position = 0;
+        if (buffer.getInt(position) != UrlCatalogWriter.MAGIC) {
+            throw new IllegalArgumentException("Not a url catalog");
+        }
+        if (buffer.getShort(position + 4) != UrlCatalogWriter.VERSION) {
+            throw new IllegalArgumentException("Unsupported url catalog version: " + buffer.getShort(position + 4));
+        }
+        count = buffer.getInt(position + 6);
+        blockSize = buffer.getInt(position + 10);
+        position += 14;
+        types = new String[buffer.getShort(position)];
+        position = readDictionary(position, types);
+        wpTags = new String[buffer.getShort(position)];
+        position = readDictionary(position, wpTags);
+        blocksPosition = buffer.getInt(position);
+        typesPosition = buffer.getInt(position + 4);
+        wpTagsPosition = buffer.getInt(position + 8);
+        dataPosition = buffer.getInt(position + 12);
+    }
+
+    private int readDictionary(int position, String[] words) {
+        position += Short.BYTES;
+        for (int i = 0; i < words.length; i++) {
+            final byte[] bytes = new byte[buffer.getShort(position)];
+            buffer.get(position + Short.BYTES, bytes);
+            words[i] = new String(bytes, StandardCharsets.UTF_8);
+            position += Short.BYTES + bytes.length;
+        }
+        return position;
+    }
+
+    public static UrlCatalog open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return new UrlCatalog(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Opens the catalog of the url list files on the classpath, it's (re)generated first when it's missing or outdated.
+     * Set via: -Durl.catalog=target/url-catalog.bin
+     */
+    public static synchronized UrlCatalog getDefault() throws IOException {
+        if (defaultCatalog == null) {
+            final Path catalogFile = getDefaultLocation();
+            final Path urlListDirectory = getUrlListDirectory();
+            if (!UrlCatalogWriter.isUpToDate(catalogFile, urlListDirectory)) {
+                UrlCatalogWriter.generate(urlListDirectory, catalogFile);
+            }
+            try {
+                defaultCatalog = open(catalogFile);
+            } catch (IllegalArgumentException e) {
+                // written by an older version
+                UrlCatalogWriter.generate(urlListDirectory, catalogFile);
+                defaultCatalog = open(catalogFile);
+            }
+        }
+        return defaultCatalog;
+    }
+
+    public static Path getDefaultLocation() {
+        return Paths.get(System.getProperty(GlobalConstants.ENV_PROPERTY_URL_CATALOG, GlobalConstants.DEFAULT_URL_CATALOG));
+    }
+
+    private static Path getUrlListDirectory() {
+        final String filePath = GlobalConstants.BLOG_URL_LIST_RESOUCE_FOLDER_PATH + GlobalConstants.ALL_ARTICLES_FILE_NAME;
+        final URL resource = UrlCatalog.class.getClassLoader().getResource(filePath);
+        if (resource == null) {
+            throw new IllegalArgumentException("Cannot find resource " + filePath);
+        }
+        try {
+            return Paths.get(resource.toURI())
+                .getParent();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Cannot resolve resource " + filePath, e);
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public String getUrl(int index) {
+        return cursor().seek(index).url();
+    }
+
+    public String getType(int index) {
+        return types[getTypeId(index)];
+    }
+
+    public Set<String> getWpTags(int index) {
+        checkIndex(index);
+        final Set<String> tags = new LinkedHashSet<>();
+        final int start = buffer.getInt(wpTagsPosition + index * Integer.BYTES);
+        final int end = buffer.getInt(wpTagsPosition + (index + 1) * Integer.BYTES);
+        final int idsPosition = wpTagsPosition + (count + 1) * Integer.BYTES;
+        for (int i = start; i < end; i++) {
+            tags.add(wpTags[buffer.getShort(idsPosition + i * Short.BYTES)]);
+        }
+        return tags;
+    }
+
+    /**
+     * @return the wp tags of each url having some
+     */
+    public Map<String, Set<String>> getAllWpTags() {
+        final Map<String, Set<String>> allWpTags = new HashMap<>();
+        final Cursor cursor = cursor();
+        while (cursor.next()) {
+            if (hasWpTags(cursor.getIndex())) {
+                allWpTags.put(cursor.url(), getWpTags(cursor.getIndex()));
+            }
+        }
+        return allWpTags;
+    }
+
+    public boolean hasWpTags(int index) {
+        checkIndex(index);
+        return buffer.getInt(wpTagsPosition + (index + 1) * Integer.BYTES) > buffer.getInt(wpTagsPosition + index * Integer.BYTES);
+    }
+
+    private int getTypeId(int index) {
+        checkIndex(index);
+        return buffer.get(typesPosition + index);
+    }
+
+    private int findTypeId(String type) {
+        return Arrays.asList(types)
+            .indexOf(type);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Iterates the urls of the given type, e.g. to feed {@link com.baeldung.common.UrlIterator}.
+     *
+     * @param type like: {@link com.baeldung.site.SitePage.Type#ARTICLE}
+     */
+    public Iterator<String> iterator(Object type) {
+        final int typeId = findTypeId(type.toString());
+        final Cursor cursor = cursor();
+        return new Iterator<>() {
+            private boolean found;
+
+            @Override
+            public boolean hasNext() {
+                while (!found && typeId != -1 && cursor.next()) {
+                    found = cursor.getTypeId() == typeId;
+                }
+                return found;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                found = false;
+                return cursor.url();
+            }
+        };
+    }
+
+    /**
+     * Iterates the urls of the given indexes in order, decoding sequentially within a block and seeking across blocks.
+     *
+     * @param indexes like the ones planned by {@link CheckPlan}
+     */
+    public Iterator<String> iterator(BitSet indexes) {
+        final Cursor cursor = cursor();
+        return new Iterator<>() {
+            private int nextIndex = indexes.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex >= 0 && nextIndex < count;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (nextIndex <= cursor.getIndex() || nextIndex - cursor.getIndex() > blockSize) {
+                    cursor.seek(nextIndex);
+                } else {
+                    while (cursor.getIndex() < nextIndex) {
+                        cursor.next();
+                    }
+                }
+                nextIndex = indexes.nextSetBit(nextIndex + 1);
+                return cursor.url();
+            }
+        };
+    }
+
+    /**
+     * Finds the urls matching an exception list in a single scan over the encoded bytes,
+     * with the same semantics as {@link Utils#excludePage(String, List, boolean)} applied to the relative urls.
+     *
+     * @return indexes of the matching urls
+     */
+    public BitSet findMatching(List<String> entryList, boolean compareAfterAddingTrailingSlash) {
+        final BitSet matching = new BitSet(count);
+        if (entryList == null || entryList.isEmpty()) {
+            return matching;
+        }
+        final byte[][] entries = entryList.stream()
+            .map(entry -> !entry.endsWith("/") && compareAfterAddingTrailingSlash ? entry + "/" : entry)
+            .map(entry -> entry.getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+        final Cursor cursor = cursor();
+        while (cursor.next()) {
+            for (byte[] entry : entries) {
+                if (cursor.contains(entry, compareAfterAddingTrailingSlash)) {
+                    matching.set(cursor.getIndex());
+                    break;
+                }
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Sequential reader over the catalog, the current url is decoded into a reused byte buffer.
+     */
+    public final class Cursor {
+
+        private byte[] bytes = new byte[128];
+        private int length;
+        private int index = -1;
+        private int position;
+
+        private Cursor() {
+        }
+
+        public boolean next() {
+            if (index + 1 >= count) {
+                index = count;
+                return false;
+            }
+            index++;
+            if (index % blockSize == 0) {
+                position = dataPosition + buffer.getInt(blocksPosition + (index / blockSize) * Integer.BYTES);
+                read(0, readVarInt());
+            } else {
+                final int shared = readVarInt();
+                read(shared, readVarInt());
+            }
+            return true;
+        }
+
+        /**
+         * Positions the cursor on the given url, decoding at most one block.
+         */
+        public Cursor seek(int index) {
+            checkIndex(index);
+            this.index = (index / blockSize) * blockSize - 1;
+            while (this.index < index) {
+                next();
+            }
+            return this;
+        }
+
+        private void read(int offset, int suffixLength) {
+            length = offset + suffixLength;
+            if (length + 1 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 1));
+            }
+            buffer.get(position, bytes, offset, suffixLength);
+            position += suffixLength;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getTypeId() {
+            return UrlCatalog.this.getTypeId(index);
+        }
+
+        public String getType() {
+            return types[getTypeId()];
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public byte byteAt(int position) {
+            return bytes[position];
+        }
+
+        /**
+         * Byte-level <code>url.contains(needle)</code> on the current url without decoding it into a String.
+         *
+         * @param appendTrailingSlash compare as if the url ended with a slash
+         */
+        public boolean contains(byte[] needle, boolean appendTrailingSlash) {
+            int haystackLength = length;
+            if (appendTrailingSlash && (length == 0 || bytes[length - 1] != '/')) {
+                bytes[length] = '/'; // the buffer always has room for one more byte
+                haystackLength++;
+            }
+            outer: for (int start = 0; start <= haystackLength - needle.length; start++) {
+                for (int i = 0; i < needle.length; i++) {
+                    if (bytes[start + i] != needle[i]) {
+                        continue outer;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        public String url() {
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+}
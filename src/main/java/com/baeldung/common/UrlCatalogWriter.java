@@ -0,0 +1,252 @@
+package com.baeldung.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.site.SitePage;
+
+/**
+ * Builds a {@link UrlCatalog} file, see {@link UrlCatalog#getDefault()} for the catalog of the url list files.
+ * <br/>
+ * File layout, all numbers big-endian:
+ * <pre>
+ * header:     int magic, short version, int url count, int block size
+ * dictionary: type names, then wp tags; each as: short count, (short length, UTF-8 bytes) * count
+ * sections:   int absolute position of each section below
+ * blocks:     int per block, position of the first url of the block relative to the data section
+ * types:      byte per url, index in the type dictionary
+ * wp tags:    int per url + 1, start of the tag ids of the url, then short tag ids
+ * data:       urls in the order they're added, the first of each block as (varint length, bytes),
+ *             the others as (varint length of the prefix shared with the previous url, varint suffix length, suffix bytes)
+ * </pre>
+ */
+public class UrlCatalogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UrlCatalogWriter.class);
+
+    static final int MAGIC = 0x42575543; // BWUC
+    static final short VERSION = 3;
+    static final int BLOCK_SIZE = 16;
+    static final int SECTION_COUNT = 4;
+
+    // in the order they're added
+    private final List<String> urls = new ArrayList<>();
+    private final List<String> urlTypes = new ArrayList<>();
+    private final Map<String, Set<String>> urlsByType = new HashMap<>();
+    private final Map<String, Set<String>> wpTagsByUrl = new HashMap<>();
+
+    /**
+     * Adds the url unless it's already added with the same type, a url listed with several types is kept once per type.
+     *
+     * @return true if added
+     */
+    public boolean add(String url, String type) {
+        if (!urlsByType.computeIfAbsent(type, key -> new HashSet<>())
+            .add(url)) {
+            return false;
+        }
+        urls.add(url);
+        urlTypes.add(type);
+        return true;
+    }
+
+    /**
+     * Sets the wp tags of the url, for each type it's added with.
+     */
+    public void setWpTags(String url, Set<String> wpTags) {
+        if (wpTags == null || wpTags.isEmpty()) {
+            wpTagsByUrl.remove(url);
+        } else {
+            wpTagsByUrl.put(url, wpTags);
+        }
+    }
+
+    public int size() {
+        return urls.size();
+    }
+
+    public void write(Path file) throws IOException {
+        final Map<String, Integer> types = new LinkedHashMap<>();
+        for (String type : urlTypes) {
+            types.putIfAbsent(type, types.size());
+        }
+        final Map<String, Integer> tags = new LinkedHashMap<>();
+        for (String url : urls) {
+            for (String tag : getWpTags(url)) {
+                tags.putIfAbsent(tag, tags.size());
+            }
+        }
+        if (types.size() > Byte.MAX_VALUE || tags.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many distinct types or wp tags for the url catalog");
+        }
+
+        final ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+        final ByteArrayOutputStream typeColumn = new ByteArrayOutputStream();
+        final ByteArrayOutputStream tagOffsets = new ByteArrayOutputStream();
+        final ByteArrayOutputStream tagIds = new ByteArrayOutputStream();
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+        byte[] previous = new byte[0];
+        for (int index = 0; index < urls.size(); index++) {
+            final byte[] url = urls.get(index).getBytes(StandardCharsets.UTF_8);
+            if (index % BLOCK_SIZE == 0) {
+                new DataOutputStream(blocks).writeInt(data.size());
+                writeVarInt(data, url.length);
+                data.write(url);
+            } else {
+                final int shared = sharedPrefixLength(previous, url);
+                writeVarInt(data, shared);
+                writeVarInt(data, url.length - shared);
+                data.write(url, shared, url.length - shared);
+            }
+            typeColumn.write(types.get(urlTypes.get(index)));
+            new DataOutputStream(tagOffsets).writeInt(tagIds.size() / Short.BYTES);
+            for (String tag : getWpTags(urls.get(index))) {
+                new DataOutputStream(tagIds).writeShort(tags.get(tag));
+            }
+            previous = url;
+        }
+        new DataOutputStream(tagOffsets).writeInt(tagIds.size() / Short.BYTES);
+        tagIds.writeTo(tagOffsets);
+
+        final ByteArrayOutputStream header = new ByteArrayOutputStream();
+        final DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(MAGIC);
+        headerOut.writeShort(VERSION);
+        headerOut.writeInt(urls.size());
+        headerOut.writeInt(BLOCK_SIZE);
+        writeDictionary(headerOut, types.keySet());
+        writeDictionary(headerOut, tags.keySet());
+
+        final List<ByteArrayOutputStream> sections = List.of(blocks, typeColumn, tagOffsets, data);
+
+        int position = header.size() + SECTION_COUNT * Integer.BYTES;
+        for (ByteArrayOutputStream section : sections) {
+            headerOut.writeInt(position);
+            position += section.size();
+        }
+
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                header.writeTo(out);
+                for (ByteArrayOutputStream section : sections) {
+                    section.writeTo(out);
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        logger.info("{} urls written to {} ({} bytes)", urls.size(), file.getFileName(), position);
+    }
+
+    private Set<String> getWpTags(String url) {
+        return wpTagsByUrl.getOrDefault(url, Collections.emptySet());
+    }
+
+    /**
+     * Generates the catalog of all-articles.txt and all-pages.txt of the given directory, the urls of each type keep the order of their file.
+     * The wp tags of the urls already in the catalog file are kept.
+     */
+    public static void generate(Path urlListDirectory, Path catalogFile) throws IOException {
+        final UrlCatalogWriter writer = new UrlCatalogWriter();
+        addUrls(writer, urlListDirectory.resolve(GlobalConstants.ALL_ARTICLES_FILE_NAME), SitePage.Type.ARTICLE.name());
+        addUrls(writer, urlListDirectory.resolve(GlobalConstants.ALL_PAGES_FILE_NAME), SitePage.Type.PAGE.name());
+        if (Files.exists(catalogFile)) {
+            try {
+                writer.wpTagsByUrl.putAll(UrlCatalog.open(catalogFile)
+                    .getAllWpTags());
+            } catch (IllegalArgumentException e) {
+                logger.info("Not keeping the wp tags of {}: {}", catalogFile.getFileName(), e.getMessage());
+            }
+        }
+        writer.write(catalogFile);
+    }
+
+    /**
+     * Rewrites the catalog with the given wp tags, the ones of the other urls are kept.
+     */
+    public static void updateWpTags(UrlCatalog catalog, Map<String, Set<String>> wpTags, Path catalogFile) throws IOException {
+        final UrlCatalogWriter writer = new UrlCatalogWriter();
+        final UrlCatalog.Cursor cursor = catalog.cursor();
+        while (cursor.next()) {
+            writer.add(cursor.url(), cursor.getType());
+        }
+        writer.wpTagsByUrl.putAll(catalog.getAllWpTags());
+        writer.wpTagsByUrl.putAll(wpTags);
+        writer.write(catalogFile);
+    }
+
+    /**
+     * @return true if the catalog exists and isn't older than the url list files it's generated from
+     */
+    public static boolean isUpToDate(Path catalogFile, Path urlListDirectory) throws IOException {
+        if (!Files.exists(catalogFile)) {
+            return false;
+        }
+        final FileTime catalogTime = Files.getLastModifiedTime(catalogFile);
+        for (String fileName : List.of(GlobalConstants.ALL_ARTICLES_FILE_NAME, GlobalConstants.ALL_PAGES_FILE_NAME)) {
+            if (Files.getLastModifiedTime(urlListDirectory.resolve(fileName)).compareTo(catalogTime) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addUrls(UrlCatalogWriter writer, Path file, String type) throws IOException {
+        try (var lines = Files.lines(file)) {
+            lines.map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .forEach(url -> writer.add(url, type));
+        }
+    }
+
+    private static void writeDictionary(DataOutputStream out, Set<String> words) throws IOException {
+        out.writeShort(words.size());
+        for (String word : words) {
+            final byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int sharedPrefixLength(byte[] previous, byte[] current) {
+        final int max = Math.min(previous.length, current.length);
+        int length = 0;
+        while (length < max && previous[length] == current[length]) {
+            length++;
+        }
+        return length;
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.baeldung.common;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Appends newly discovered urls to a url list file, like: blog-url-list/all-articles.txt.
+ * <br/>
+ * The file is read only once. A url is considered as already available when any existing line contains it,
+ * both compared with a trailing slash: <code>(line + "/").contains(url + "/")</code>.
+ * To answer this with a hash lookup, every slash-delimited substring of every line is indexed.
+ * New urls are collected in memory and written back in a single buffered, atomic step via {@link #flush()}.
+ */
+public class UrlListUpdater {
+
+    private static final Logger logger = LoggerFactory.getLogger(UrlListUpdater.class);
+
+    private static final char SLASH = '/';
+
+    private final Path file;
+    private final Set<String> index = new HashSet<>();
+    private final List<String> lines = new ArrayList<>();
+    private final List<String> newUrls = new ArrayList<>();
+
+    public UrlListUpdater(Path file) throws IOException {
+        this.file = file;
+        try (var existing = Files.lines(file)) {
+            existing.forEach(this::addToIndex);
+        }
+    }
+
+    private void addToIndex(String line) {
+        lines.add(line);
+        final String withSlash = line + SLASH;
+        for (int start = withSlash.indexOf(SLASH); start != -1; start = withSlash.indexOf(SLASH, start + 1)) {
+            for (int end = withSlash.indexOf(SLASH, start); end != -1; end = withSlash.indexOf(SLASH, end + 1)) {
+                index.add(withSlash.substring(start, end + 1));
+            }
+        }
+    }
+
+    public boolean contains(String url) {
+        final String withSlash = url + SLASH;
+        if (withSlash.charAt(0) == SLASH) {
+            return index.contains(withSlash);
+        }
+        // relative urls can match in the middle of a path segment, the index can't answer that
+        return lines.stream()
+            .anyMatch(line -> (line + SLASH).contains(withSlash));
+    }
+
+    /**
+     * Collects the url if it's not available in the file yet.
+     *
+     * @return true if the url is new
+     */
+    public boolean add(String url) {
+        if (contains(url)) {
+            return false;
+        }
+        addToIndex(url);
+        newUrls.add(url);
+        return true;
+    }
+
+    public List<String> getNewUrls() {
+        return newUrls;
+    }
+
+    /**
+     * Appends the collected urls at once. The content is written into a temporary file next to the target,
+     * which then replaces the target, so a failure never leaves a partially written list behind.
+     */
+    public void flush() throws IOException {
+        if (newUrls.isEmpty()) {
+            return;
+        }
+        final Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.copy(file, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardOpenOption.APPEND)) {
+                for (String url : newUrls) {
+                    writer.write(url);
+                    writer.write('\n');
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        logger.info("{} new urls appended to {}", newUrls.size(), file.getFileName());
+        newUrls.clear();
+    }
+
+}
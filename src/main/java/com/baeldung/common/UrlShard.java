@@ -0,0 +1,65 @@
+package com.baeldung.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import com.google.common.collect.Iterators;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * One of the partitions of the url catalog, to run the all urls tests on several machines.
+ * Set via: -Dshard.index=0 -Dshard.count=4
+ * <br/>
+ * A url belongs to the shard chosen by a consistent hash of the url, so every machine computes the same partition
+ * independently, and changing the shard count moves only the urls of the added or removed shards.
+ */
+public class UrlShard {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final int index;
+    private final int count;
+
+    public UrlShard(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    public static UrlShard fromSystemProperties() {
+        return new UrlShard(Integer.parseInt(System.getProperty(GlobalConstants.ENV_PROPERTY_SHARD_INDEX, "0")),
+            Integer.parseInt(System.getProperty(GlobalConstants.ENV_PROPERTY_SHARD_COUNT, "1")));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    /**
+     * @param url relative url as in the url catalog, like: /java-streams
+     */
+    public boolean contains(String url) {
+        return !isSharded() || Hashing.consistentHash(HASH_FUNCTION.hashString(url, StandardCharsets.UTF_8), count) == index;
+    }
+
+    public Iterator<String> filter(Iterator<String> urls) {
+        return isSharded() ? Iterators.filter(urls, this::contains) : urls;
+    }
+
+    @Override
+    public String toString() {
+        return "shard " + index + " of " + count;
+    }
+
+}
@@ -47,7 +47,9 @@ import org.eclipse.jgit.api.PullResult;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.api.errors.TransportException;
+import org.jsoup.Connection;
 import org.jsoup.Connection.Response;
+import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -58,6 +60,9 @@ import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.baeldung.common.jfr.GitSyncEvent;
+import com.baeldung.common.jfr.HttpFetchEvent;
+import com.baeldung.common.jfr.RepoWalkEvent;
 import com.baeldung.common.vo.AnchorLinksTestDataVO;
 import com.baeldung.common.vo.EventTrackingVO;
 import com.baeldung.common.vo.GitHubRepoVO;
@@ -85,7 +90,6 @@ import com.google.common.base.Predicates;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
-import com.google.common.util.concurrent.RateLimiter;
 
 public class Utils {
 
@@ -405,7 +409,50 @@ public class Utils {
     }
 
     public static Document getJSoupDocument(String url) throws IOException {
-        return Jsoup.connect(url).get();
+        return getJSoupDocumentFromConnection(Jsoup.connect(url));
+    }
+
+    /**
+     * Gets the document of a connection configured by the caller, like with a larger max body size.
+     */
+    public static Document getJSoupDocumentFromConnection(Connection connection) throws IOException {
+        final String url = connection.request()
+            .url()
+            .toString();
+        HostRateLimits.getDefault().acquire(url);
+        final HttpFetchEvent event = new HttpFetchEvent(url, "GET");
+        event.begin();
+        try {
+            final Document document = connection.get();
+            event.setStatus(connection.response().statusCode());
+            return document;
+        } catch (HttpStatusException e) {
+            event.setStatus(e.getStatusCode());
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Normalizes a link to a GitHub module, so the variations of linking the same module compare equal:
+     * case, trailing "/", "#readme" and "/tree/master" of the repository root.
+     */
+    public static String normalizeGitHubModuleUrl(String url) {
+        String normalized = StringUtils.removeEnd(url.trim()
+            .toLowerCase(), "#readme");
+        normalized = StringUtils.removeEnd(normalized, "/");
+        return StringUtils.removeEnd(normalized, "/tree/master");
+    }
+
+    /**
+     * @return the links of the document to GitHub, normalized by {@link #normalizeGitHubModuleUrl(String)}
+     */
+    public static Set<String> getGitHubModuleLinks(Document doc) {
+        return doc.select("a[href*=github.com]")
+            .stream()
+            .map(anchor -> normalizeGitHubModuleUrl(anchor.attr("href")))
+            .collect(Collectors.toSet());
     }
 
     public static String getHost(String url) throws URISyntaxException {
@@ -424,6 +471,7 @@ public class Utils {
 
     public static List<JavaConstruct> getJavaConstructsFromGitHubRawUrl(String url) throws IOException {
         List<JavaConstruct> javaConstructs = new ArrayList<>();
+        HostRateLimits.getDefault().acquire(url);
         getJavaConstructsFromJavaCode(StringEscapeUtils.unescapeHtml4(Jsoup.connect(url).execute().body()), javaConstructs);
         return javaConstructs;
     }
@@ -505,6 +553,7 @@ public class Utils {
         // resolve redirections
         return gitHubUrls.stream().map(gitHubUrl -> {
             try {
+                HostRateLimits.getDefault().acquire(gitHubUrl);
                 Response response = Jsoup.connect(gitHubUrl).followRedirects(true).execute();
                 return response.url().toString();
             } catch (IOException e) {
@@ -568,22 +617,23 @@ public class Utils {
      * @deprecated Subject to removal after we completely migrate Crawler4JTest to JavaConstructsTest
      */
     @Deprecated
-    public static Multimap<String, String> createMapForGitHubModuleAndPosts(String baseURL, String fileForJavaConstructsTest, RateLimiter rateLimiter) throws IOException {
+    public static Multimap<String, String> createMapForGitHubModuleAndPosts(String baseURL, String fileForJavaConstructsTest) throws IOException {
         Multimap<String, String> gitHubModuleAndPostsMap = ArrayListMultimap.create();
         String postUrl = null;
         for (String entry : Utils.fetchFileAsList(fileForJavaConstructsTest)) {
             try {
-                rateLimiter.acquire();
                 postUrl = baseURL + entry;
-                logger.info("Processing:  " + postUrl);
+                logger.info("Processing:  {}", postUrl);
                 if (Utils.excludePage(postUrl, GlobalConstants.ARTILCE_JAVA_WEEKLY, false)) {
                     continue;
                 }
 
                 List<String> gitHubUrls = Utils.getGitHubModuleUrl(postUrl);
-                logger.debug("More than one GitHub links Found on :" + postUrl);
-                logger.debug("Will pickup ther last from the following URLs");
-                logger.debug(gitHubUrls.toString());
+                if (logger.isDebugEnabled()) {
+                    logger.debug("More than one GitHub links Found on :{}", postUrl);
+                    logger.debug("Will pickup ther last from the following URLs");
+                    logger.debug("{}", gitHubUrls);
+                }
                 String gitHubUrl = gitHubUrls.get(gitHubUrls.size() - 1);
 
                 if (StringUtils.isBlank(gitHubUrl)) {
@@ -860,19 +910,21 @@ public class Utils {
         return url;
     }
 
-    public static void sleep(int millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            //
-        }
-    }
-
     public static void fetchGitRepo(String redownload, GitHubRepoVO repository) throws IOException, GitAPIException {
         fetchGitRepo(redownload, Paths.get(repository.repoLocalPath()), repository.repoUrl());
     }
 
     public static void fetchGitRepo(String redownloadTutorialsRepo, Path repoDirectoryPath, String repoGitUrl) throws IOException, InvalidRemoteException, TransportException, GitAPIException {
+        final GitSyncEvent event = new GitSyncEvent(repoGitUrl, repoDirectoryPath.toString());
+        event.begin();
+        try {
+            syncGitRepo(redownloadTutorialsRepo, repoDirectoryPath, repoGitUrl, event);
+        } finally {
+            event.commit();
+        }
+    }
+
+    private static void syncGitRepo(String redownloadTutorialsRepo, Path repoDirectoryPath, String repoGitUrl, GitSyncEvent event) throws IOException, GitAPIException {
         if (!repoDirectoryPath.toFile().exists()) {
             redownloadTutorialsRepo = GlobalConstants.YES;
         } else if (GlobalConstants.NO.equalsIgnoreCase(redownloadTutorialsRepo)) {
@@ -899,6 +951,7 @@ public class Utils {
 
             logger.info(magentaColordMessage("Downloading {}. This may take a few minutes"), repoGitUrl);
             Git.cloneRepository().setURI(repoGitUrl).setDirectory(repoDirectoryPath.toFile()).call();
+            event.setCloned(true);
 
             logger.info(magentaColordMessage("tutorials repository cloned"));
         }
@@ -957,7 +1010,11 @@ public class Utils {
             Utils.fetchGitRepo(GlobalConstants.NO, repoLocalPath, repo.repoUrl());
 
             ReadmeFileVisitor readmeFileVisitor = new ReadmeFileVisitor(repo.repoLocalPath());
+            RepoWalkEvent walkEvent = new RepoWalkEvent(repo.repoLocalPath());
+            walkEvent.begin();
             Files.walkFileTree(repoLocalPath, readmeFileVisitor);
+            walkEvent.setMatches(readmeFileVisitor.getReadmeList().size());
+            walkEvent.commit();
             if(convertPathToHttpUrl) {
                 readmeList.addAll(readmeFileVisitor.getReadmeList()
                     .stream()
@@ -0,0 +1,27 @@
+package com.baeldung.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.baeldung.Check")
+@Label("Check")
+@Category({ "Blogwatch", "Check" })
+@Description("Run of a check on a loaded page")
+@StackTrace(false)
+public class CheckEvent extends jdk.jfr.Event {
+
+    @Label("Check Name")
+    private String check;
+
+    @Label("URL")
+    private String url;
+
+    public CheckEvent(String check, String url) {
+        this.check = check;
+        this.url = url;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.baeldung.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.baeldung.GitSync")
+@Label("Git Sync")
+@Category({ "Blogwatch", "Git" })
+@Description("Pull or clone of a GitHub repository into the local directory")
+@StackTrace(false)
+public class GitSyncEvent extends jdk.jfr.Event {
+
+    @Label("Repository URL")
+    private String url;
+
+    @Label("Directory")
+    private String directory;
+
+    @Label("Cloned")
+    @Description("Whether the repository was cloned, otherwise only pulled")
+    private boolean cloned;
+
+    public GitSyncEvent(String url, String directory) {
+        this.url = url;
+        this.directory = directory;
+    }
+
+    public void setCloned(boolean cloned) {
+        this.cloned = cloned;
+    }
+
+}
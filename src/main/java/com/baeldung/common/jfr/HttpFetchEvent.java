@@ -0,0 +1,35 @@
+package com.baeldung.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.baeldung.HttpFetch")
+@Label("HTTP Fetch")
+@Category({ "Blogwatch", "HTTP" })
+@Description("HTTP request sent outside of the browser, without the wait on the rate limit")
+@StackTrace(false)
+public class HttpFetchEvent extends jdk.jfr.Event {
+
+    @Label("URL")
+    private String url;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Status")
+    @Description("0 if no response was received")
+    private int status;
+
+    public HttpFetchEvent(String url, String method) {
+        this.url = url;
+        this.method = method;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+}
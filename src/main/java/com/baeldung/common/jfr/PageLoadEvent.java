@@ -0,0 +1,31 @@
+package com.baeldung.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.baeldung.PageLoad")
+@Label("Page Load")
+@Category({ "Blogwatch", "Browser" })
+@Description("Loading of a page by the browser, without the wait on the rate limit")
+@StackTrace(false)
+public class PageLoadEvent extends jdk.jfr.Event {
+
+    @Label("URL")
+    private String url;
+
+    @Label("Status")
+    @Description("Status of the main document, 0 if it isn't recorded")
+    private int status;
+
+    public PageLoadEvent(String url) {
+        this.url = url;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+}
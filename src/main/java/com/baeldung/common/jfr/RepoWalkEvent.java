@@ -0,0 +1,31 @@
+package com.baeldung.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.baeldung.RepoWalk")
+@Label("Repository Walk")
+@Category({ "Blogwatch", "Git" })
+@Description("Walk over the files of a local repository or module")
+@StackTrace(false)
+public class RepoWalkEvent extends jdk.jfr.Event {
+
+    @Label("Directory")
+    private String directory;
+
+    @Label("Matches")
+    @Description("Number of files found, like the README files")
+    private int matches;
+
+    public RepoWalkEvent(String directory) {
+        this.directory = directory;
+    }
+
+    public void setMatches(int matches) {
+        this.matches = matches;
+    }
+
+}
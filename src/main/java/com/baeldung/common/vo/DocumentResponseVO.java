@@ -0,0 +1,14 @@
+package com.baeldung.common.vo;
+
+import java.util.List;
+
+/**
+ * Response of the main document of a page load.
+ *
+ * @param url final url after the redirects
+ * @param status final http status
+ * @param redirects each redirect as status and url, like: "301 https://baeldung.com/java-streams"
+ * @param elapsedMillis from the start of the load until the final response
+ */
+public record DocumentResponseVO(String url, int status, List<String> redirects, long elapsedMillis) {
+}
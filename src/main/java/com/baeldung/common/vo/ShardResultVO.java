@@ -0,0 +1,84 @@
+package com.baeldung.common.vo;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of one {@link com.baeldung.common.UrlShard}, written as json so the results of all shards can be merged.
+ */
+public class ShardResultVO {
+
+    private int shardIndex;
+    private int shardCount;
+    private int failures;
+    private Map<String, Integer> executedTests = new LinkedHashMap<>();
+    private Map<String, Integer> failedTests = new LinkedHashMap<>();
+    private Map<String, List<String>> badURLs = new LinkedHashMap<>();
+    private Map<Integer, List<String>> resultsForGitHubHttpStatusTest = new LinkedHashMap<>();
+
+    public ShardResultVO() {
+    }
+
+    public ShardResultVO(int shardIndex, int shardCount) {
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public void setShardIndex(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public void setFailures(int failures) {
+        this.failures = failures;
+    }
+
+    public Map<String, Integer> getExecutedTests() {
+        return executedTests;
+    }
+
+    public void setExecutedTests(Map<String, Integer> executedTests) {
+        this.executedTests = executedTests;
+    }
+
+    public Map<String, Integer> getFailedTests() {
+        return failedTests;
+    }
+
+    public void setFailedTests(Map<String, Integer> failedTests) {
+        this.failedTests = failedTests;
+    }
+
+    public Map<String, List<String>> getBadURLs() {
+        return badURLs;
+    }
+
+    public void setBadURLs(Map<String, List<String>> badURLs) {
+        this.badURLs = badURLs;
+    }
+
+    public Map<Integer, List<String>> getResultsForGitHubHttpStatusTest() {
+        return resultsForGitHubHttpStatusTest;
+    }
+
+    public void setResultsForGitHubHttpStatusTest(Map<Integer, List<String>> resultsForGitHubHttpStatusTest) {
+        this.resultsForGitHubHttpStatusTest = resultsForGitHubHttpStatusTest;
+    }
+
+}
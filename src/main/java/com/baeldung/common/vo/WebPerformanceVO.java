@@ -0,0 +1,64 @@
+package com.baeldung.common.vo;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Web performance of a page load, as measured by the browser.
+ *
+ * @param timeToFirstByte millis from the start of the navigation until the first byte of the document
+ * @param domContentLoaded millis until the end of the DOMContentLoaded event
+ * @param load millis until the end of the load event
+ * @param largestContentfulPaint millis until the largest contentful paint, 0 if the browser doesn't report it
+ * @param cumulativeLayoutShift largest session window of the layout shifts without recent input
+ * @param transferBytes of the document and its resources, cross-origin resources without Timing-Allow-Origin count as 0
+ * @param requestCount of the document and its resources
+ */
+public record WebPerformanceVO(long timeToFirstByte, long domContentLoaded, long load, long largestContentfulPaint, double cumulativeLayoutShift, long transferBytes,
+    int requestCount) {
+
+    public enum Metric {
+
+        TTFB("ttfb", WebPerformanceVO::timeToFirstByte, 200),
+        DOM_CONTENT_LOADED("dcl", WebPerformanceVO::domContentLoaded, 200),
+        LOAD("load", WebPerformanceVO::load, 200),
+        LCP("lcp", WebPerformanceVO::largestContentfulPaint, 200),
+        CLS("cls", WebPerformanceVO::cumulativeLayoutShift, 0.05),
+        TRANSFER_BYTES("bytes", WebPerformanceVO::transferBytes, 50_000),
+        REQUESTS("requests", WebPerformanceVO::requestCount, 5);
+
+        private final String key;
+        private final ToDoubleFunction<WebPerformanceVO> value;
+        // smaller increases aren't regressions, they're noise
+        private final double minimumRegression;
+
+        Metric(String key, ToDoubleFunction<WebPerformanceVO> value, double minimumRegression) {
+            this.key = key;
+            this.value = value;
+            this.minimumRegression = minimumRegression;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public double valueOf(WebPerformanceVO performance) {
+            return value.applyAsDouble(performance);
+        }
+
+        public double getMinimumRegression() {
+            return minimumRegression;
+        }
+    }
+
+    public double get(Metric metric) {
+        return metric.valueOf(this);
+    }
+
+    /**
+     * @param values in the order of {@link Metric}
+     */
+    public static WebPerformanceVO of(double[] values) {
+        return new WebPerformanceVO((long) values[0], (long) values[1], (long) values[2], (long) values[3], values[4], (long) values[5], (int) values[6]);
+    }
+
+}
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.annotation.Scope;
 
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.crawler4j.fetcher.RateLimitedPageFetcher;
 
 import edu.uci.ics.crawler4j.crawler.CrawlConfig;
 import edu.uci.ics.crawler4j.crawler.CrawlController;
@@ -24,7 +25,8 @@ public class Crawler4jMainCofig {
     public CrawlConfig crawlConfig() {
         CrawlConfig crawlConfig = new CrawlConfig();
         crawlConfig.setCrawlStorageFolder(GlobalConstants.CRAWLER4J_STORAGE_FOLDER);
-        crawlConfig.setPolitenessDelay(1500);
+        // throttled per host by RateLimitedPageFetcher
+        crawlConfig.setPolitenessDelay(0);
         crawlConfig.setMaxDepthOfCrawling(-1);
         crawlConfig.setMaxPagesToFetch(-1);
         crawlConfig.setIncludeBinaryContentInCrawling(false);
@@ -36,7 +38,7 @@ public class Crawler4jMainCofig {
     @Bean
     @Scope("prototype")
     public PageFetcher pageFetcher() {
-        return new PageFetcher(crawlConfig());
+        return new RateLimitedPageFetcher(crawlConfig());
     }
 
     @Bean
@@ -49,7 +49,7 @@ public class CrawlerForFindingGitHubModulesWithNoneOrEmptyReadme extends BaseCra
             Elements readmeLinks = doc.select("a[href$='readme.md']");
             if (readmeLinks.size() > 0) {
                 try {
-                    Document readmeDoc = Jsoup.connect(readmeLinks.get(0).absUrl("href")).get();
+                    Document readmeDoc = Utils.getJSoupDocument(readmeLinks.get(0).absUrl("href"));
                     if (readmeDoc.select("a[href*='" + GlobalConstants.BAELDUNG_DOMAIN_NAME + "']").size() == 0) {
                         this.discoveredURLs.add(pageURL);
                         logger.info("Empty readme " + pageURL);
@@ -0,0 +1,29 @@
+package com.baeldung.crawler4j.fetcher;
+
+import java.io.IOException;
+
+import com.baeldung.common.HostRateLimits;
+
+import edu.uci.ics.crawler4j.crawler.CrawlConfig;
+import edu.uci.ics.crawler4j.crawler.exceptions.PageBiggerThanMaxSizeException;
+import edu.uci.ics.crawler4j.fetcher.PageFetchResult;
+import edu.uci.ics.crawler4j.fetcher.PageFetcher;
+import edu.uci.ics.crawler4j.url.WebURL;
+
+/**
+ * Throttles the crawlers by the rate limit of the host, see {@link HostRateLimits}, instead of the fixed politeness delay of crawler4j.
+ */
+public class RateLimitedPageFetcher extends PageFetcher {
+
+    public RateLimitedPageFetcher(CrawlConfig config) {
+        super(config);
+    }
+
+    @Override
+    public PageFetchResult fetchPage(WebURL webUrl) throws InterruptedException, IOException, PageBiggerThanMaxSizeException {
+        HostRateLimits.getDefault()
+            .acquire(webUrl.getURL());
+        return super.fetchPage(webUrl);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.baeldung.jsoup;
 
+import com.baeldung.common.HostRateLimits;
 import com.baeldung.common.dto.DependencyDto;
 import com.baeldung.common.dto.DependencyVersionDto;
 import org.apache.commons.text.StringEscapeUtils;
@@ -32,6 +33,7 @@ public class ArticleDependencyVersionExtractor {
 
     public List<DependencyVersionDto> extractDependencyVersion(DependencyDto searchedDependency, URL article) {
         try {
+            HostRateLimits.getDefault().acquire(article);
             return Jsoup.parse(article, 10000)
               .getElementsByTag("code")
               .stream()
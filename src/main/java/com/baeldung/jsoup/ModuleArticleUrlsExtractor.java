@@ -1,7 +1,7 @@
 package com.baeldung.jsoup;
 
 import com.baeldung.common.ConsoleColors;
-import com.baeldung.common.Utils;
+import com.baeldung.common.HostRateLimits;
 import com.google.common.annotations.VisibleForTesting;
 
 import org.jsoup.HttpStatusException;
@@ -54,7 +54,7 @@ public class ModuleArticleUrlsExtractor {
     @VisibleForTesting
     Optional<Document> parseDocument(URL url) {
         try {
-            Utils.sleep(1500);
+            HostRateLimits.getDefault().acquire(url);
             return Optional.of(Jsoup.parse(url, TIMEOUT));
         }
         catch(HttpStatusException httpStatusException){
@@ -0,0 +1,14 @@
+package com.baeldung.selenium.config;
+
+/**
+ * Resources a browser window loads.
+ * <br/>
+ * FULL loads the page like a visitor does. LEAN doesn't download images, fonts and the third party urls of
+ * browser.lean.blocked-urls, and a page counts as loaded on DOMContentLoaded, enough for the checks reading the DOM only.
+ * On HtmlUnit, LEAN runs without JavaScript and CSS.
+ */
+public enum BrowserProfile {
+
+    FULL, LEAN
+
+}
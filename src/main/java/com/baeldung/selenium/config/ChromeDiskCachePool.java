@@ -0,0 +1,69 @@
+package com.baeldung.selenium.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.GlobalConstants;
+
+/**
+ * Disk cache directories for Chrome, kept across the browser sessions and the runs, so a new session doesn't download
+ * the theme stylesheets, scripts and fonts again. A directory is leased by one session at a time, as Chrome can't share its cache
+ * between processes, and the most recently released one is leased first as it's the warmest.
+ * <br/>
+ * Enabled via -Dbrowser.disk-cache.dir=target/chrome-cache
+ */
+@ThreadSafe
+public class ChromeDiskCachePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChromeDiskCachePool.class);
+
+    private static volatile ChromeDiskCachePool defaultInstance;
+
+    private final Path root;
+
+    // guarded by this
+    private final Deque<Path> free = new ArrayDeque<>();
+    private int created;
+
+    ChromeDiskCachePool(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * @return the shared pool or null if not enabled via -Dbrowser.disk-cache.dir
+     */
+    public static ChromeDiskCachePool getDefault() {
+        final String dir = System.getProperty(GlobalConstants.ENV_PROPERTY_BROWSER_DISK_CACHE_DIR);
+        if (StringUtils.isBlank(dir)) {
+            return null;
+        }
+        if (defaultInstance == null) {
+            synchronized (ChromeDiskCachePool.class) {
+                if (defaultInstance == null) {
+                    defaultInstance = new ChromeDiskCachePool(Paths.get(dir)
+                        .toAbsolutePath());
+                    logger.info("Chrome disk cache enabled in {}", defaultInstance.root);
+                }
+            }
+        }
+        return defaultInstance;
+    }
+
+    public synchronized Path lease() {
+        final Path dir = free.pollFirst();
+        return dir != null ? dir : root.resolve("session-" + created++);
+    }
+
+    public synchronized void release(Path dir) {
+        free.addFirst(dir);
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.baeldung.selenium.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v104.network.Network;
+import org.openqa.selenium.devtools.v104.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v104.network.model.ResourceType;
+import org.openqa.selenium.devtools.v104.network.model.ResponseReceived;
+import org.openqa.selenium.devtools.v104.page.Page;
+import org.openqa.selenium.devtools.v104.page.model.FrameId;
+
+import com.baeldung.common.vo.DocumentResponseVO;
+
+/**
+ * Records the response of the main document while a Chrome window loads a page, via the events of the DevTools Network domain:
+ * the final status, the redirects and the time until the response. So the status of a page is known without requesting it again.
+ * <br/>
+ * Enabled via -Dbrowser.document-response=true, the events of the frames and the subresources are ignored.
+ */
+@ThreadSafe
+public class DocumentResponseRecorder {
+
+    private final String mainFrameId;
+    private final LongSupplier clock;
+
+    // guarded by this
+    private boolean recording;
+    private long startNanos;
+    private final List<String> redirects = new ArrayList<>();
+    private String url;
+    private int status;
+    private long elapsedNanos;
+
+    DocumentResponseRecorder(String mainFrameId, LongSupplier clock) {
+        this.mainFrameId = mainFrameId;
+        this.clock = clock;
+    }
+
+    /**
+     * Listens to the events of the session, Network must be enabled.
+     */
+    static DocumentResponseRecorder attach(DevTools devTools) {
+        final String mainFrameId = devTools.send(Page.getFrameTree())
+            .getFrame()
+            .getId()
+            .toString();
+        final DocumentResponseRecorder recorder = new DocumentResponseRecorder(mainFrameId, System::nanoTime);
+        devTools.addListener(Network.requestWillBeSent(), recorder::onRequest);
+        devTools.addListener(Network.responseReceived(), recorder::onResponse);
+        return recorder;
+    }
+
+    private void onRequest(RequestWillBeSent request) {
+        if (isMainDocument(request.getType(), request.getFrameId())) {
+            request.getRedirectResponse()
+                .ifPresent(response -> redirected(response.getUrl(), response.getStatus()));
+        }
+    }
+
+    private void onResponse(ResponseReceived received) {
+        if (isMainDocument(Optional.of(received.getType()), received.getFrameId())) {
+            responded(received.getResponse()
+                .getUrl(),
+                received.getResponse()
+                    .getStatus());
+        }
+    }
+
+    private boolean isMainDocument(Optional<ResourceType> type, Optional<FrameId> frameId) {
+        return type.filter(ResourceType.DOCUMENT::equals)
+            .isPresent()
+            && frameId.map(FrameId::toString)
+                .filter(mainFrameId::equals)
+                .isPresent();
+    }
+
+    /**
+     * Starts recording a load, the events out of a load are ignored.
+     */
+    public synchronized void start() {
+        recording = true;
+        startNanos = clock.getAsLong();
+        redirects.clear();
+        url = null;
+        status = 0;
+    }
+
+    synchronized void redirected(String fromUrl, int redirectStatus) {
+        if (recording) {
+            redirects.add(redirectStatus + " " + fromUrl);
+        }
+    }
+
+    synchronized void responded(String responseUrl, int responseStatus) {
+        if (recording) {
+            url = responseUrl;
+            status = responseStatus;
+            elapsedNanos = clock.getAsLong() - startNanos;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops recording, waits for the response if its event isn't delivered yet.
+     *
+     * @return the response or null if none in time, e.g. the host isn't reachable
+     */
+    public synchronized DocumentResponseVO finish(long timeoutMillis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            long remaining;
+            while (status == 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+        recording = false;
+        return status == 0 ? null : new DocumentResponseVO(url, status, List.copyOf(redirects), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+}
@@ -14,6 +14,8 @@ public abstract class browserConfig {
 
     protected WebDriver webDriver;
 
+    protected DocumentResponseRecorder documentResponseRecorder;
+
     public WebDriver getDriver() {
         return webDriver;
     }
@@ -22,6 +24,13 @@ public abstract class browserConfig {
         this.webDriver = driver;
     }
 
+    /**
+     * @return the recorder of the current window or null if the responses aren't recorded
+     */
+    public DocumentResponseRecorder getDocumentResponseRecorder() {
+        return documentResponseRecorder;
+    }
+
     public String getTargetEnv() {
         return targetEnv;
     }
@@ -32,6 +41,20 @@ public abstract class browserConfig {
 
     public abstract void openNewWindow();
 
+    /**
+     * Opens a window with the given profile, browsers without support of profiles open a {@link BrowserProfile#FULL} window.
+     */
+    public void openNewWindow(BrowserProfile profile) {
+        openNewWindow();
+    }
+
+    public void quit() {
+        documentResponseRecorder = null;
+        if (null != webDriver) {
+            webDriver.quit();
+        }
+    }
+
     public abstract void openNewWindowWithProxy(String proxyHost, String proxyServerPort, String proxyUsername, String proxyPassword);
 
 }
@@ -1,15 +1,21 @@
 package com.baeldung.selenium.config;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
 
-
-
-
+import javax.annotation.PostConstruct;
 
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.NTCredentials;
 
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v104.network.Network;
 import org.openqa.selenium.htmlunit.HtmlUnitDriver;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +23,7 @@ import org.springframework.beans.factory.annotation.Value;
 import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.Utils;
 import com.gargoylesoftware.htmlunit.BrowserVersion;
+import com.gargoylesoftware.htmlunit.Cache;
 import com.gargoylesoftware.htmlunit.ProxyConfig;
 import com.gargoylesoftware.htmlunit.WebClient;
 import org.openqa.selenium.UsernameAndPassword;
@@ -24,23 +31,53 @@ import org.openqa.selenium.Proxy;
 
 public class headlessBrowserConfig extends browserConfig {
 
+    // shared by the windows of all threads, so the static assets of the site are downloaded and the scripts are compiled only once
+    private static final Cache HTML_UNIT_CACHE = new Cache();
+
     @Value("${headless.browser.name}")
     private String headlessBrowserName;
 
+    @Value("${browser.lean.blocked-urls}")
+    private String[] leanBlockedUrls;
+
+    @Value("${htmlunit.javascript.timeout.millis}")
+    private long htmlUnitJavaScriptTimeout;
+
+    @Value("${htmlunit.cache.max-size}")
+    private int htmlUnitCacheMaxSize;
+
+    private Path diskCacheDir;
+
+    @PostConstruct
+    public void configureHtmlUnitCache() {
+        HTML_UNIT_CACHE.setMaxSize(htmlUnitCacheMaxSize);
+    }
+
     public String getHeadlessBrowserName() {
         return headlessBrowserName;
     }
 
     @Override
     public void openNewWindow() {
+        openNewWindow(BrowserProfile.FULL);
+    }
+
+    /**
+     * On HtmlUnit the lean profile runs without JavaScript and CSS, it doesn't download images with any profile.
+     */
+    @Override
+    public void openNewWindow(BrowserProfile profile) {
         logger.info("headlessBrowserName-->" + this.headlessBrowserName);
+        documentResponseRecorder = null;
 
         if (GlobalConstants.HEADLESS_BROWSER_HTMLUNIT.equalsIgnoreCase(this.headlessBrowserName)) {
-            webDriver = new HtmlUnitDriver(BrowserVersion.getDefault(), true) {
+            final boolean lean = BrowserProfile.LEAN == profile;
+            webDriver = new HtmlUnitDriver(BrowserVersion.getDefault(), !lean) {
                 @Override
                 protected WebClient newWebClient(BrowserVersion version) {
                     WebClient webClient = super.newWebClient(version);
-                    webClient.getOptions().setThrowExceptionOnScriptError(false);
+                    configureWebClient(webClient);
+                    webClient.getOptions().setCssEnabled(!lean);
                     return webClient;
                 }
             };
@@ -58,12 +95,70 @@ public class headlessBrowserConfig extends browserConfig {
             chromeOptions.addArguments("disable-infobars");
             chromeOptions.addArguments("--disable-extensions");
 
+            if (BrowserProfile.LEAN == profile) {
+                chromeOptions.setPageLoadStrategy(PageLoadStrategy.EAGER);
+                chromeOptions.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+            }
+
+            ChromeDiskCachePool diskCachePool = ChromeDiskCachePool.getDefault();
+            if (diskCachePool != null) {
+                // a directory still leased by a window which wasn't quit is left to it
+                diskCacheDir = diskCachePool.lease();
+                chromeOptions.addArguments("--disk-cache-dir=" + diskCacheDir);
+            }
+
             // firefoxOptions.setHeadless(true);
-            webDriver = new ChromeDriver(chromeOptions);           
-            
+            ChromeDriver chromeDriver = new ChromeDriver(chromeOptions);
+            final boolean recordDocumentResponse = Boolean.getBoolean(GlobalConstants.ENV_PROPERTY_BROWSER_DOCUMENT_RESPONSE);
+            if (BrowserProfile.LEAN == profile || recordDocumentResponse) {
+                configureDevTools(chromeDriver, BrowserProfile.LEAN == profile, recordDocumentResponse);
+            }
+            webDriver = chromeDriver;
         }                
     }
 
+    @Override
+    public void quit() {
+        try {
+            super.quit();
+        } finally {
+            if (diskCacheDir != null) {
+                ChromeDiskCachePool.getDefault()
+                    .release(diskCacheDir);
+                diskCacheDir = null;
+            }
+        }
+    }
+
+    /**
+     * Bounds the run time of the scripts, so a page with a runaway script can't hold the window.
+     */
+    private void configureWebClient(WebClient webClient) {
+        webClient.getOptions().setThrowExceptionOnScriptError(false);
+        webClient.setJavaScriptTimeout(htmlUnitJavaScriptTimeout);
+        webClient.setCache(HTML_UNIT_CACHE);
+    }
+
+    /**
+     * Via the DevTools protocol, blocks the url patterns of browser.lean.blocked-urls for the whole session, e.g. ads, analytics and fonts,
+     * and records the responses of the main document, see {@link DocumentResponseRecorder}.
+     */
+    private void configureDevTools(ChromeDriver chromeDriver, boolean blockUrls, boolean recordDocumentResponse) {
+        try {
+            DevTools devTools = chromeDriver.getDevTools();
+            devTools.createSession();
+            devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+            if (blockUrls) {
+                devTools.send(Network.setBlockedURLs(Arrays.asList(leanBlockedUrls)));
+            }
+            if (recordDocumentResponse) {
+                documentResponseRecorder = DocumentResponseRecorder.attach(devTools);
+            }
+        } catch (WebDriverException | IllegalStateException e) {
+            logger.warn("Couldn't configure DevTools, loading all resources without recording the responses: {}", e.getMessage());
+        }
+    }
+
     @Override
     public void openNewWindowWithProxy(String proxyHost, String proxyServerPort, String proxyUsername, String proxyPassword) {
 
@@ -75,7 +170,7 @@ public class headlessBrowserConfig extends browserConfig {
                 @Override
                 protected WebClient newWebClient(BrowserVersion version) {
                     WebClient webClient = super.newWebClient(version);
-                    webClient.getOptions().setThrowExceptionOnScriptError(false);
+                    configureWebClient(webClient);
                     webClient.getOptions().setProxyConfig(proxyConfig);
                     webClient.getCredentialsProvider().setCredentials(AuthScope.ANY, new NTCredentials(proxyUsername, proxyPassword, "", ""));
                     return webClient;
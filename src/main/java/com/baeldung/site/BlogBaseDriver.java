@@ -1,24 +1,84 @@
 package com.baeldung.site;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HostRateLimits;
+import com.baeldung.common.jfr.PageLoadEvent;
+import com.baeldung.common.vo.DocumentResponseVO;
+import com.baeldung.common.vo.WebPerformanceVO;
+import com.baeldung.selenium.config.BrowserProfile;
+import com.baeldung.selenium.config.DocumentResponseRecorder;
 import com.baeldung.selenium.config.browserConfig;
 import com.google.common.util.concurrent.RateLimiter;
 
 public abstract class BlogBaseDriver {
 
+    private static final long INITIAL_POLL_MILLIS = 50;
+    private static final long MAX_POLL_MILLIS = 1000;
+    private static final Duration COOKIE_TIMEOUT = Duration.ofSeconds(10);
+    private static final long DOCUMENT_RESPONSE_TIMEOUT_MILLIS = 1000;
+    // of the W3C WebDriver spec
+    private static final Duration DEFAULT_SCRIPT_TIMEOUT = Duration.ofSeconds(30);
+    // shared by the callers of loadUrlWithThrottling, stricter than the rate limit of baeldung.com
+    private static final RateLimiter THROTTLED_LOADS = RateLimiter.create(1);
+
+    // resolves with true as soon as the predicate holds after a change of the DOM, or with the predicate's value at the deadline
+    private static final String DOM_CHANGE_SCRIPT = String.join("\n",
+        "var predicate = new Function(arguments[0]), timeout = arguments[1], done = arguments[arguments.length - 1];",
+        "if (predicate()) { done(true); return; }",
+        "var timer, observer = new MutationObserver(function() {",
+        "  if (predicate()) { observer.disconnect(); clearTimeout(timer); done(true); }",
+        "});",
+        "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });",
+        "timer = setTimeout(function() { observer.disconnect(); done(!!predicate()); }, timeout);");
+
+    // reads what the browser buffered during the load, the observers deliver the buffered entries to takeRecords() synchronously
+    private static final String WEB_PERFORMANCE_SCRIPT = String.join("\n",
+        "var navigation = performance.getEntriesByType('navigation')[0];",
+        "if (!navigation) { return null; }",
+        "var bytes = navigation.transferSize || 0, requests = 1;",
+        "performance.getEntriesByType('resource').forEach(function(resource) { bytes += resource.transferSize || 0; requests++; });",
+        "function buffered(type) {",
+        "  try {",
+        "    var observer = new PerformanceObserver(function() {});",
+        "    observer.observe({ type: type, buffered: true });",
+        "    var entries = observer.takeRecords();",
+        "    observer.disconnect();",
+        "    return entries;",
+        "  } catch (e) { return []; }",
+        "}",
+        "var lcp = buffered('largest-contentful-paint');",
+        "var cls = 0, session = 0, first = 0, last = 0;",
+        "buffered('layout-shift').forEach(function(shift) {",
+        "  if (shift.hadRecentInput) { return; }",
+        "  if (session > 0 && shift.startTime - last < 1000 && shift.startTime - first < 5000) { session += shift.value; }",
+        "  else { session = shift.value; first = shift.startTime; }",
+        "  last = shift.startTime;",
+        "  cls = Math.max(cls, session);",
+        "});",
+        "return { ttfb: navigation.responseStart, dcl: navigation.domContentLoadedEventEnd, load: navigation.loadEventEnd,",
+        "  lcp: lcp.length ? lcp[lcp.length - 1].startTime : 0, cls: cls, bytes: bytes, requests: requests };");
+
     protected Logger logger = LoggerFactory.getLogger(getClass());
 
     private browserConfig browserConfig;
@@ -27,27 +87,99 @@ public abstract class BlogBaseDriver {
         this.browserConfig = browserConfig;
     }
 
-    @Autowired
-    private RateLimiter rateLimiter;
-
     @Value("${base.url}")
     private String baseURL;
 
     protected String url;
 
+    private DocumentResponseVO documentResponse;
+
+    private long lastThrottleNanos;
+
+    /**
+     * Loads the url, throttled by the rate limit of its host, see {@link HostRateLimits}
+     */
     public void loadUrl() {
-        this.getWebDriver().get(this.url);
+        lastThrottleNanos = HostRateLimits.getDefault()
+            .acquire(this.url);
+        documentResponse = null;
+        final PageLoadEvent event = new PageLoadEvent(this.url);
+        event.begin();
+        final DocumentResponseRecorder recorder = browserConfig.getDocumentResponseRecorder();
+        if (recorder == null) {
+            try {
+                this.getWebDriver().get(this.url);
+            } finally {
+                event.commit();
+            }
+            return;
+        }
+        recorder.start();
+        try {
+            this.getWebDriver().get(this.url);
+        } finally {
+            documentResponse = recorder.finish(DOCUMENT_RESPONSE_TIMEOUT_MILLIS);
+            if (documentResponse != null) {
+                event.setStatus(documentResponse.status());
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * @return nanos the last load waited for the rate limit of its host
+     */
+    public long getLastThrottleNanos() {
+        return lastThrottleNanos;
+    }
+
+    /**
+     * @return the response of the last load, empty if it isn't recorded, see {@link DocumentResponseRecorder}
+     */
+    public Optional<DocumentResponseVO> getDocumentResponse() {
+        return Optional.ofNullable(documentResponse);
+    }
+
+    /**
+     * Reads the performance of the last load from the browser, without loading the page again.
+     *
+     * @return empty if the browser doesn't support the Navigation Timing API or the window runs without JavaScript
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<WebPerformanceVO> getWebPerformance() {
+        if (!isJavaScriptEnabled()) {
+            return Optional.empty();
+        }
+        final Map<String, Object> measured = (Map<String, Object>) getJavaScriptExecuter().executeScript(WEB_PERFORMANCE_SCRIPT);
+        if (measured == null) {
+            return Optional.empty();
+        }
+        final double[] values = new double[WebPerformanceVO.Metric.values().length];
+        for (WebPerformanceVO.Metric metric : WebPerformanceVO.Metric.values()) {
+            // undefined and NaN come back as null, like the LCP of a browser without the API they count as 0
+            final Object value = measured.get(metric.getKey());
+            values[metric.ordinal()] = value instanceof Number ? ((Number) value).doubleValue() : 0;
+        }
+        return Optional.of(WebPerformanceVO.of(values));
     }
 
+    /**
+     * Loads the url like {@link #loadUrl()}, and at most once per second across all the drivers, the rate these callers always had.
+     */
     public void loadUrlWithThrottling() {
-        rateLimiter.acquire();
-        this.getWebDriver().get(this.url);
+        final double waitedSeconds = THROTTLED_LOADS.acquire();
+        loadUrl();
+        lastThrottleNanos += (long) (waitedSeconds * TimeUnit.SECONDS.toNanos(1));
     }
 
     public void openNewWindow() {
         browserConfig.openNewWindow();
     }
 
+    public void openNewWindow(BrowserProfile profile) {
+        browserConfig.openNewWindow(profile);
+    }
+
     public void openNewWindowWithProxy(String proxyServerIP, String proxyServerPort, String proxyUsername, String proxyPassword) {
         logger.info("Loading page using Proxy Server: " + proxyServerIP + ":" + proxyServerPort);
         browserConfig.openNewWindowWithProxy(proxyServerIP, proxyServerPort, proxyUsername, proxyPassword);
@@ -63,9 +195,7 @@ public abstract class BlogBaseDriver {
     }
 
     public void quiet() {
-        if (null != this.browserConfig.getDriver()) {
-            this.browserConfig.getDriver().quit();
-        }
+        this.browserConfig.quit();
     }
 
     public WebElement findById(String id){
@@ -138,18 +268,116 @@ public abstract class BlogBaseDriver {
         return (JavascriptExecutor) this.getWebDriver();
     }
 
+    /**
+     * @return false if the window runs without JavaScript, like a {@link BrowserProfile#LEAN} window on HtmlUnit, where {@link #getJavaScriptExecuter()} fails
+     */
+    public boolean isJavaScriptEnabled() {
+        final WebDriver webDriver = getWebDriver();
+        return !(webDriver instanceof HtmlUnitDriver) || ((HtmlUnitDriver) webDriver).isJavascriptEnabled();
+    }
+
     public String getRelativeUrl() {
         return this.getUrl().toString().substring(this.getBaseURL().toString().length());
     }
 
     public void acceptCookie() {
+        if (!isJavaScriptEnabled()) {
+            // the banner can't be there, it's shown by a script
+            return;
+        }
         try {
             JavascriptExecutor js = ((JavascriptExecutor) this.getWebDriver());
             js.executeScript("document.getElementById('cn-accept-cookie').click();");
-            Thread.sleep(2000);
+            waitFor(COOKIE_TIMEOUT, ExpectedConditions.invisibilityOfElementLocated(By.id("cn-accept-cookie")));
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Polls the condition with a backoff, from 50ms up to 1s, until it returns a value other than null or false, or the timeout passes.
+     * Missing or stale elements count as not yet, so {@link ExpectedConditions} can be used as conditions.
+     *
+     * @return the value of the condition or empty on timeout
+     */
+    public <T> Optional<T> waitFor(Duration timeout, Function<? super WebDriver, T> condition) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        long pollMillis = INITIAL_POLL_MILLIS;
+        while (true) {
+            try {
+                final T value = condition.apply(getWebDriver());
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return Optional.of(value);
+                }
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                // not there yet
+            }
+            final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(Math.min(pollMillis, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+                return Optional.empty();
+            }
+            pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+        }
+    }
+
+    /**
+     * Same as {@link #waitFor(Duration, Function)} but fails with a {@link TimeoutException} like {@link org.openqa.selenium.support.ui.WebDriverWait}
+     */
+    public <T> T waitUntil(Duration timeout, Function<? super WebDriver, T> condition) {
+        return waitFor(timeout, condition).orElseThrow(() -> new TimeoutException(String.format("Expected condition failed: %s (tried for %s)", condition, timeout)));
+    }
+
+    /**
+     * Polls a JavaScript predicate, for state which doesn't change the DOM, like a variable set by a callback.
+     *
+     * @param predicate body of a function returning a boolean, like: return window.loaded === true
+     */
+    public boolean waitForScript(Duration timeout, String predicate) {
+        return waitFor(timeout, driver -> Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(predicate))).isPresent();
+    }
+
+    /**
+     * Waits for a JavaScript predicate to hold, checked by a MutationObserver in the page on every change of the DOM,
+     * so there are no round trips while waiting. Falls back to {@link #waitForScript(Duration, String)} if the browser can't run it.
+     *
+     * @param predicate body of a function returning a boolean, like: return document.querySelector('.popup') !== null
+     */
+    public boolean waitForDomChange(Duration timeout, String predicate) {
+        final long start = System.nanoTime();
+        try {
+            final WebDriver.Timeouts timeouts = getWebDriver().manage()
+                .timeouts();
+            final Duration previousScriptTimeout = getScriptTimeout(timeouts);
+            timeouts.scriptTimeout(timeout.plusSeconds(5));
+            try {
+                return Boolean.TRUE.equals(getJavaScriptExecuter().executeAsyncScript(DOM_CHANGE_SCRIPT, predicate, timeout.toMillis()));
+            } finally {
+                timeouts.scriptTimeout(previousScriptTimeout);
+            }
+        } catch (WebDriverException e) {
+            logger.debug("Couldn't observe the DOM changes, polling instead: {}", e.getMessage());
+            return waitForScript(timeout.minusNanos(System.nanoTime() - start), predicate);
+        }
+    }
+
+    private static Duration getScriptTimeout(WebDriver.Timeouts timeouts) {
+        try {
+            return timeouts.getScriptTimeout();
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // not every driver reports it
+            return DEFAULT_SCRIPT_TIMEOUT;
+        }
+    }
+
+    public boolean waitForDocumentReady(Duration timeout) {
+        return waitForScript(timeout, "return document.readyState === 'complete'");
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.baeldung.site;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -15,6 +16,8 @@ import com.google.common.collect.Streams;
 @Component
 public class HomePageDriver extends BlogBaseDriver {
 
+    private static final Duration DRIP_PAYLOAD_TIMEOUT = Duration.ofSeconds(10);
+
     public HomePageDriver(browserConfig browserConfig) {
         super(browserConfig);
     }
@@ -38,8 +41,8 @@ public class HomePageDriver extends BlogBaseDriver {
     }
 
     public String removeDripCutomJobRoleFieldAndGetSubscriberDetails() throws InterruptedException {
-        getJavaScriptExecuter().executeScript("_dcq.push(['identify',{job_role: '',success:function(payload){window.dripPayload=payload}}])");
-        Thread.sleep(3000);
+        getJavaScriptExecuter().executeScript("window.dripPayload=null;_dcq.push(['identify',{job_role: '',success:function(payload){window.dripPayload=payload}}])");
+        waitForScript(DRIP_PAYLOAD_TIMEOUT, "return window.dripPayload != null");
         Map<String, String> subscriberDetails = getDripPayloadFromBrowser();
         return subscriberDetails == null ? null : subscriberDetails.toString();
     }
@@ -50,8 +53,8 @@ public class HomePageDriver extends BlogBaseDriver {
     }
 
     public String getDripSubscriberDetails() throws InterruptedException {
-        getJavaScriptExecuter().executeScript("_dcq.push(['identify',{success:function(payload){window.dripPayload=payload}}])");
-        Thread.sleep(3000);
+        getJavaScriptExecuter().executeScript("window.dripPayload=null;_dcq.push(['identify',{success:function(payload){window.dripPayload=payload}}])");
+        waitForScript(DRIP_PAYLOAD_TIMEOUT, "return window.dripPayload != null");
         Map<String, String> subscriberDetails = getDripPayloadFromBrowser();
         return subscriberDetails == null ? null : subscriberDetails.toString();
     }
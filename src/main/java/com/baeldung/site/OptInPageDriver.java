@@ -23,9 +23,7 @@ public class OptInPageDriver extends BlogBaseDriver {
     public void clickOnGetAccessLinkforSmallTeam() throws InterruptedException {
         logger.info("executing clickOnGetAccessLinkforSmallTeam()");
         acceptCookie();
-        Thread.sleep(5000);
-        WebDriverWait wait = new WebDriverWait(this.getWebDriver(), Duration.ofSeconds(20));
-        WebElement button = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//div[contains(@class,'buy_team_small')]/a")));
+        WebElement button = waitUntil(Duration.ofSeconds(20), ExpectedConditions.elementToBeClickable(By.xpath("//div[contains(@class,'buy_team_small')]/a")));
         button.click();
     }
 
@@ -51,18 +49,14 @@ public class OptInPageDriver extends BlogBaseDriver {
 
     public void clickOnGetAccessLinkforMediumTeam() throws InterruptedException {
         logger.info("executing clickOnGetAccessLinkforMediumTeam()");
-        Thread.sleep(5000);
-        WebDriverWait wait = new WebDriverWait(this.getWebDriver(), Duration.ofSeconds(20));
-        WebElement button = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//div[contains(@class,'buy_team_medium')]/a")));
+        WebElement button = waitUntil(Duration.ofSeconds(20), ExpectedConditions.elementToBeClickable(By.xpath("//div[contains(@class,'buy_team_medium')]/a")));
         button.click();
 
     }
 
     public void clickOnGetAccessLinkforLargeTeam() throws InterruptedException {
         logger.info("executing clickOnGetAccessLinkforLargeTeam()");
-        Thread.sleep(5000);
-        WebDriverWait wait = new WebDriverWait(this.getWebDriver(), Duration.ofSeconds(20));
-        WebElement button = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//div[contains(@class,'buy_team_large')]/a")));
+        WebElement button = waitUntil(Duration.ofSeconds(20), ExpectedConditions.elementToBeClickable(By.xpath("//div[contains(@class,'buy_team_large')]/a")));
         button.click();
     }
 
@@ -77,16 +71,6 @@ public class OptInPageDriver extends BlogBaseDriver {
         }
     }
 
-    public void acceptCookie() {
-        try {
-            JavascriptExecutor js = ((JavascriptExecutor) this.getWebDriver());
-            js.executeScript("document.getElementById('cn-accept-cookie').click();");
-            Thread.sleep(2000);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
     @Override
     public void setUrl(String url) {
         this.url = this.getBaseURL() + url;
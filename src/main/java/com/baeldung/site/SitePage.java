@@ -10,14 +10,17 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.jsoup.Jsoup;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.NoSuchElementException;
@@ -40,6 +43,9 @@ import com.baeldung.site.strategy.ITitleAnalyzerStrategy;
 @Component
 public class SitePage extends BlogBaseDriver {
     private static final Pattern RAW_TAG_PATTERN = Pattern.compile("(?i)\\[raw[^\\]]*\\]|\\[\\/raw\\]");
+    // the inline script defining the tags, e.g. var ba_tags = ["java-streams","no-before-post"];
+    private static final Pattern WP_TAGS_PATTERN = Pattern.compile("ba_tags\\s*=\\s*\\[([^\\]]*)\\]");
+    private static final Pattern WP_TAG_PATTERN = Pattern.compile("[\"']([^\"']*)[\"']");
 
     private static DateTimeFormatter publishedDateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
 
@@ -73,6 +79,10 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public void setWpTags() {
+        if (!isJavaScriptEnabled()) {
+            this.wpTags = findWpTagsInPageSource();
+            return;
+        }
         Set<String> wordPressTags;
         try {
             wordPressTags = Set.copyOf((List<String>) getJavaScriptExecuter().executeScript("return ba_tags"));
@@ -83,6 +93,24 @@ public class SitePage extends BlogBaseDriver {
         this.wpTags = wordPressTags;
     }
 
+    /**
+     * Reads ba_tags from the script defining it, for the windows running without JavaScript.
+     */
+    private Set<String> findWpTagsInPageSource() {
+        final Matcher tags = WP_TAGS_PATTERN.matcher(this.getWebDriver()
+            .getPageSource());
+        if (!tags.find()) {
+            logger.error(redBoldMessage("Couldn't find ba_tags in the page source of " + getUrl()));
+            return Collections.emptySet();
+        }
+        final Set<String> wordPressTags = new HashSet<>();
+        final Matcher tag = WP_TAG_PATTERN.matcher(tags.group(1));
+        while (tag.find()) {
+            wordPressTags.add(tag.group(1));
+        }
+        return Set.copyOf(wordPressTags);
+    }
+
     public WebElement findContentDiv() {
         return this.getWebDriver().findElement(By.xpath(".//section[1]/div[contains(@class, 'short_box short_start')][1]"));
     }
@@ -325,6 +353,21 @@ public class SitePage extends BlogBaseDriver {
 
     }
 
+    /**
+     * @return the links and image sources of the content, except the ones to {@link GlobalConstants#DOMAIN_LIST_TO_EXCLUDE}
+     */
+    public List<String> findLinkTargets() {
+        String content = Type.ARTICLE == this.getType() ? "section" : "article";
+        List<String> targets = new ArrayList<String>();
+        this.getWebDriver()
+            .findElements(By.xpath("//" + content + "//a[@href and not(starts-with(@href, '#')) " + Utils.generateXPathExcludeClauseForAnchors(GlobalConstants.DOMAIN_LIST_TO_EXCLUDE) + "]"))
+            .forEach(anchor -> targets.add(anchor.getAttribute("href")));
+        this.getWebDriver()
+            .findElements(By.xpath("//" + content + "//img[@src " + Utils.generateXPathExcludeClauseForImages(GlobalConstants.DOMAIN_LIST_TO_EXCLUDE) + "]"))
+            .forEach(image -> targets.add(image.getAttribute("src")));
+        return targets;
+    }
+
     public List<String> findLinksToTheGithubModule(List<String> links) {
         List<String> gitHubModuleLinks = new ArrayList<String>();
         try {
@@ -451,12 +494,12 @@ public class SitePage extends BlogBaseDriver {
 
     public boolean vatPricesAvailableThePage() throws Exception {
         logger.info("wait for element with VAT");
-        try {
-            WebDriverWait wait = new WebDriverWait(this.getWebDriver(), Duration.ofSeconds(300));
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//*[contains(text(), 'with VAT')]")));
-        } catch (Exception e) {
-
-        }
+        // visible like ExpectedConditions.visibilityOfElementLocated: rendered with a size and not hidden
+        waitForDomChange(Duration.ofSeconds(300), String.join("\n",
+            "var element = document.evaluate(\"//*[contains(text(), 'with VAT')]\", document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;",
+            "if (element === null) { return false; }",
+            "var style = window.getComputedStyle(element);",
+            "return element.getClientRects().length > 0 && style.visibility !== 'hidden' && style.opacity !== '0';"));
         logger.info("currently loaded page-->" + this.getWebDriver().getCurrentUrl());
         logger.info("Page Title-->" + this.getWebDriver().getTitle());
         if (!this.getWebDriver().getTitle().toLowerCase().contains(GlobalConstants.COURSE_PAGE_TITLE_FOR_VAT_TEST.toLowerCase())) {
@@ -689,6 +732,10 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public void acceptCookie() {
+        if (!isJavaScriptEnabled()) {
+            // the banner can't be there, it's shown by a script
+            return;
+        }
         try {
             WebDriverWait wait = new WebDriverWait(this.getWebDriver(), Duration.ofSeconds(10));
             wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("cn-accept-cookie"))).click();
@@ -840,31 +887,21 @@ public class SitePage extends BlogBaseDriver {
     }
 
     public boolean containsGithubModuleLink(String readmeParentURL) {
-        String lowerCase = readmeParentURL.toLowerCase();
-        String endRemoved = StringUtils.removeEnd(lowerCase, "/tree/master");
-
-        // try to check different possibilities, see SitePageUnitTest.
-        String checkHref1 = "href=\"%s\"".formatted(lowerCase);
-        String checkHref2 = "href=\"%s\"".formatted(endRemoved);
-        String checkHref3 = "href=\"%s#readme\"".formatted(lowerCase);
-        String checkHref4 = "href=\"%s#readme\"".formatted(endRemoved);
-        String checkHref5 = "href=\"%s/\"".formatted(lowerCase);
-        String checkHref6 = "href=\"%s/\"".formatted(endRemoved);
-        String checkHref7 = "href=\"%s/#readme\"".formatted(lowerCase);
-        String checkHref8 = "href=\"%s/#readme\"".formatted(endRemoved);
-
-        String pageSource = this.getWebDriver()
-            .getPageSource()
-            .toLowerCase();
-
-        return pageSource.contains(checkHref1)
-            || pageSource.contains(checkHref2)
-            || pageSource.contains(checkHref3)
-            || pageSource.contains(checkHref4)
-            || pageSource.contains(checkHref5)
-            || pageSource.contains(checkHref6)
-            || pageSource.contains(checkHref7)
-            || pageSource.contains(checkHref8);
+        // the different possibilities of linking a module are normalized, see SitePageUnitTest.
+        return Utils.getGitHubModuleLinks(Jsoup.parse(this.getWebDriver()
+            .getPageSource()))
+            .contains(Utils.normalizeGitHubModuleUrl(readmeParentURL));
+    }
+
+    /**
+     * @return the outer HTML of the elements of the xpath, in document order
+     */
+    public List<String> getOuterHtml(String xpath) {
+        return this.getWebDriver()
+            .findElements(By.xpath(xpath))
+            .stream()
+            .map(element -> element.getAttribute("outerHTML"))
+            .collect(toList());
     }
 
     public boolean hasNoindexMetaTag() {
@@ -10,8 +10,6 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.baeldung.common.Utils;
-
 @Component
 public class SpringMicroservicesGuidePage extends BlogBaseDriver {
 
@@ -30,8 +28,8 @@ public class SpringMicroservicesGuidePage extends BlogBaseDriver {
     }
 
     public List<WebElement> findImages() {
-        Utils.sleep(5000);
-        return this.getWebDriver().findElements(By.xpath("//*[@id='tve_editor']//img"));
+        By images = By.xpath("//*[@id='tve_editor']//img");
+        return waitFor(Duration.ofSeconds(10), ExpectedConditions.presenceOfAllElementsLocatedBy(images)).orElseGet(() -> this.getWebDriver().findElements(images));
     }
 
     @Override
@@ -1,10 +1,17 @@
 package com.baeldung.common;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -12,15 +19,27 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 import org.junit.platform.commons.util.AnnotationUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
 
+import com.baeldung.common.jfr.CheckEvent;
+import com.baeldung.selenium.config.BrowserProfile;
 import com.baeldung.site.SitePage;
 
 import dev.yavuztas.junit.ConcurrentExtension;
 
 /**
  * A custom Junit extension to run concurrent UI tests on {@link SitePage},
- * with support of some helper annotations: {@link LogOnce}, {@link PageTypes}.
+ * with support of some helper annotations: {@link LogOnce}, {@link PageTypes}, {@link FullBrowserProfile}, {@link MemoizedVerdict}.
+ * <br/>
+ * The browser sessions are opened with {@link BrowserProfile#LEAN} unless the test needs the full profile, -Dbrowser.profile=full opens all with the full profile.
+ * <br/>
+ * With -Dconcurrency.adaptive=true the number of browser sessions is adapted by {@link ConcurrencyController}.
+ * <br/>
+ * A worker survives the failures which aren't the page's, see {@link WorkerFailure}: the url is requeued to be tried again at the end,
+ * and the browser session is replaced if it's dead. What the failed attempt recorded is dropped, see {@link UrlAttempt}.
+ * Once the url can't be requeued anymore, it's handed to the {@link UrlGivenUp} handler to report it as a failure of the check
+ * and the worker goes on, without a handler the failure is thrown like the ones of the check.
  * <br/>
  * See {@link com.baeldung.selenium.common.AllUrlsUITest} for an example implementation.
  */
@@ -29,12 +48,69 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
     private final Supplier<SitePage> pageSupplier;
     private final Supplier<Logger> loggerSupplier;
     private final Predicate<SitePage> hasNextUrl;
+    private final Consumer<SitePage> urlProcessed;
+    private final Predicate<SitePage> requeueUrl;
+    private final UrlGivenUp urlGivenUp;
+    private final ConcurrencyController concurrencyController;
+    // per test method, set when a worker finds no urls left, so the waiting workers don't open a session
+    private final Map<String, AtomicBoolean> exhaustedUrls = new ConcurrentHashMap<>();
 
     public AllUrlsConcurrentExtension(int concurrency, Supplier<SitePage> pageSupplier, Supplier<Logger> loggerSupplier, Predicate<SitePage> hasNextUrl) {
+        this(concurrency, pageSupplier, loggerSupplier, hasNextUrl, page -> {
+        });
+    }
+
+    /**
+     * @param urlProcessed called after the test is done with the current url of the page
+     */
+    public AllUrlsConcurrentExtension(int concurrency, Supplier<SitePage> pageSupplier, Supplier<Logger> loggerSupplier, Predicate<SitePage> hasNextUrl,
+        Consumer<SitePage> urlProcessed) {
+        this(concurrency, pageSupplier, loggerSupplier, hasNextUrl, urlProcessed, page -> false);
+    }
+
+    /**
+     * Reports a url which failed for a reason other than the check and can't be tried again.
+     */
+    @FunctionalInterface
+    public interface UrlGivenUp {
+
+        void report(SitePage page, WorkerFailure failure, Throwable error);
+
+    }
+
+    /**
+     * @param requeueUrl called when the current url of the page failed for a reason other than the check, false if it can't be tried again
+     */
+    public AllUrlsConcurrentExtension(int concurrency, Supplier<SitePage> pageSupplier, Supplier<Logger> loggerSupplier, Predicate<SitePage> hasNextUrl,
+        Consumer<SitePage> urlProcessed, Predicate<SitePage> requeueUrl) {
+        this(concurrency, pageSupplier, loggerSupplier, hasNextUrl, urlProcessed, requeueUrl, null);
+    }
+
+    /**
+     * @param urlGivenUp called instead of failing the test when the current url of the page can't be tried again, before urlProcessed
+     */
+    public AllUrlsConcurrentExtension(int concurrency, Supplier<SitePage> pageSupplier, Supplier<Logger> loggerSupplier, Predicate<SitePage> hasNextUrl,
+        Consumer<SitePage> urlProcessed, Predicate<SitePage> requeueUrl, UrlGivenUp urlGivenUp) {
         this.pageSupplier = pageSupplier;
         this.loggerSupplier = loggerSupplier;
         this.hasNextUrl = hasNextUrl;
-        globalThreadCount = concurrency;
+        this.urlProcessed = urlProcessed;
+        this.requeueUrl = requeueUrl;
+        this.urlGivenUp = urlGivenUp;
+        this.concurrencyController = ConcurrencyController.getInstance(concurrency);
+        globalThreadCount = concurrencyController != null ? concurrencyController.getMaxConcurrency() : concurrency;
+    }
+
+    /**
+     * How a worker stopped running the urls of a browser session.
+     */
+    private enum Outcome {
+        // the session is not allowed anymore
+        YIELDED,
+        // no urls left
+        EXHAUSTED,
+        // the session has to be replaced
+        DRIVER_DEAD
     }
 
     /**
@@ -42,13 +118,21 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
      */
     private class TestLogic {
 
+        final String methodName;
         final SitePage.Type[] ensureTypes;
+        final BrowserProfile profile;
+        final MemoizedVerdict memoizedVerdict;
         final Set<String> testNames = new LinkedHashSet<>();
+        final AtomicBoolean exhausted;
 
         Consumer<SitePage> consumer;
 
-        public TestLogic(SitePage.Type... types) {
+        public TestLogic(String methodName, BrowserProfile profile, MemoizedVerdict memoizedVerdict, SitePage.Type... types) {
+            this.methodName = methodName;
+            this.profile = profile;
+            this.memoizedVerdict = memoizedVerdict;
             this.ensureTypes = types;
+            this.exhausted = exhaustedUrls.computeIfAbsent(methodName, name -> new AtomicBoolean());
         }
 
         public TestLogic log(String testName) {
@@ -59,21 +143,136 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
         public TestLogic apply(Consumer<SitePage> consumer) {
             this.consumer = page -> {
                 if (ensureTag(page)) {
-                    consumer.accept(page);
+                    final long start = System.nanoTime();
+                    final CheckEvent event = new CheckEvent(methodName, page.getUrl());
+                    event.begin();
+                    try {
+                        check(page, consumer);
+                    } finally {
+                        event.commit();
+                    }
+                    TimingMetrics.record(methodName, page.getType(), System.nanoTime() - start);
                 }
             };
             return this;
         }
 
+        /**
+         * Replays the verdict of a {@link MemoizedVerdict} check if the content didn't change, otherwise runs and records it.
+         */
+        private void check(SitePage page, Consumer<SitePage> consumer) {
+            final VerdictStore verdicts = VerdictStore.current();
+            if (memoizedVerdict == null || verdicts == null) {
+                consumer.accept(page);
+                return;
+            }
+            final List<String> content = new ArrayList<>(page.getOuterHtml(memoizedVerdict.region()));
+            content.add(String.valueOf(new TreeSet<>(page.getWpTags())));
+            final String contentHash = VerdictStore.contentHash(content);
+            final String fingerprint = verdicts.fingerprint(memoizedVerdict.version());
+            if (verdicts.replay(methodName, page.getUrl(), fingerprint, contentHash)) {
+                return;
+            }
+            verdicts.begin();
+            try {
+                consumer.accept(page);
+                verdicts.commit(methodName, page.getUrl(), fingerprint, contentHash);
+            } finally {
+                verdicts.discard();
+            }
+        }
+
         public void run() {
             // log testnames only once
             log();
             // run test logic against all urls
-            onNewWindow(newPage -> {
-                while (hasNextUrl.test(newPage)) {
+            if (concurrencyController == null) {
+                runUrlsWithLiveSession();
+                return;
+            }
+            // a session is closed when the controller shrinks, and opened again when it grows back
+            while (concurrencyController.acquire(exhausted::get)) {
+                Outcome outcome = null;
+                try {
+                    outcome = runUrlsWithLiveSession();
+                } finally {
+                    if (outcome != Outcome.YIELDED) {
+                        concurrencyController.release();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Runs the urls on a new browser session, replaced by another one whenever it dies.
+         */
+        private Outcome runUrlsWithLiveSession() {
+            Outcome outcome;
+            while ((outcome = withNewWindow(profile, this::runUrls)) == Outcome.DRIVER_DEAD) {
+                loggerSupplier.get()
+                    .warn(ConsoleColors.magentaColordMessage("Replacing the dead browser session of {}"), methodName);
+            }
+            return outcome;
+        }
+
+        private Outcome runUrls(SitePage newPage) {
+            long start = System.nanoTime();
+            while (true) {
+                if (concurrencyController != null && concurrencyController.tryYield()) {
+                    return Outcome.YIELDED;
+                }
+                UrlAttempt.begin();
+                try {
+                    if (!hasNextUrl.test(newPage)) {
+                        UrlAttempt.commit();
+                        exhausted.set(true);
+                        return Outcome.EXHAUSTED;
+                    }
                     consumer.accept(newPage);
+                } catch (RuntimeException | Error e) {
+                    recordOutcome(System.nanoTime() - start, e);
+                    final WorkerFailure failure = WorkerFailure.of(e);
+                    final boolean requeued = failure != WorkerFailure.CHECK && requeue(newPage, failure, e);
+                    if (failure == WorkerFailure.CHECK || (!requeued && urlGivenUp == null)) {
+                        UrlAttempt.commit();
+                        throw e;
+                    }
+                    UrlAttempt.discard();
+                    if (!requeued) {
+                        // a flaky page doesn't cost the worker, the url is done with its failure
+                        urlGivenUp.report(newPage, failure, e);
+                        urlProcessed.accept(newPage);
+                    }
+                    if (failure == WorkerFailure.DRIVER_DEAD) {
+                        return Outcome.DRIVER_DEAD;
+                    }
+                    start = System.nanoTime();
+                    continue;
                 }
-            });
+                UrlAttempt.commit();
+                urlProcessed.accept(newPage);
+                final long end = System.nanoTime();
+                TimingMetrics.recordUrl(methodName, newPage.getUrl(), end - start);
+                recordOutcome(end - start, null);
+                start = end;
+            }
+        }
+
+        private boolean requeue(SitePage page, WorkerFailure failure, Throwable error) {
+            if (requeueUrl.test(page)) {
+                loggerSupplier.get()
+                    .warn("Requeued {} for {}, {}: {}", page.getUrl(), methodName, failure, error.getMessage());
+                return true;
+            }
+            loggerSupplier.get()
+                .error("Gave up retrying {} for {}, failed on {}", page.getUrl(), methodName, failure);
+            return false;
+        }
+
+        private void recordOutcome(long nanos, Throwable error) {
+            if (concurrencyController != null) {
+                concurrencyController.record(nanos, error);
+            }
         }
 
         private void log() {
@@ -89,18 +288,35 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
      * Runs a command on a new window, automatically handles closing.
      */
     protected void onNewWindow(Consumer<SitePage> cmd) {
+        withNewWindow(BrowserProfile.FULL, page -> {
+            cmd.accept(page);
+            return true;
+        });
+    }
+
+    private <T> T withNewWindow(BrowserProfile profile, Function<SitePage, T> cmd) {
         final SitePage page = this.pageSupplier.get();
+        ProgressReporter.browserSessionOpened();
         try {
-            page.openNewWindow();
-            cmd.accept(page);
+            page.openNewWindow(profile);
+            return cmd.apply(page);
         } finally {
-            page.quiet();
+            try {
+                page.quiet();
+            } catch (WebDriverException e) {
+                // the session is already dead
+                loggerSupplier.get()
+                    .debug("Couldn't quit the browser session: {}", e.getMessage());
+            }
+            ProgressReporter.browserSessionClosed();
         }
     }
 
     @Override
     protected void invokeTestMethod(ReflectiveInvocationContext<Method> invocationContext) {
-        final TestLogic logic = new TestLogic(getPageTypeValues(invocationContext));
+        final TestLogic logic = new TestLogic(invocationContext.getExecutable()
+            .getName(), getBrowserProfile(invocationContext), AnnotationUtils.findAnnotation(invocationContext.getExecutable(), MemoizedVerdict.class)
+                .orElse(null), getPageTypeValues(invocationContext));
         for (String log : getLogOnceValues(invocationContext)) {
             logic.log(log);
         }
@@ -133,6 +349,14 @@ public class AllUrlsConcurrentExtension extends ConcurrentExtension {
         return types;
     }
 
+    private BrowserProfile getBrowserProfile(ReflectiveInvocationContext<Method> invocationContext) {
+        if (BrowserProfile.FULL.name().equalsIgnoreCase(System.getProperty(GlobalConstants.ENV_PROPERTY_BROWSER_PROFILE))
+            || AnnotationUtils.isAnnotated(invocationContext.getExecutable(), FullBrowserProfile.class)) {
+            return BrowserProfile.FULL;
+        }
+        return BrowserProfile.LEAN;
+    }
+
     private String[] getLogOnceValues(ReflectiveInvocationContext<Method> invocationContext) {
         Optional<LogOnce> logOnce = AnnotationUtils
             .findAnnotation(invocationContext.getExecutable(), LogOnce.class);
@@ -0,0 +1,121 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.selenium.config.browserConfig;
+import com.baeldung.site.SitePage;
+import com.google.common.collect.Multimap;
+
+public class AllUrlsConcurrentExtensionUnitTest {
+
+    private static final String TEST_NAME = "givenAFlakyPage_whenTheFirstAttemptTimesOut_thenOnlyTheRetryCounts";
+    private static final String URL = "https://www.baeldung.com/java-streams";
+    private static final String OTHER_URL = "https://www.baeldung.com/java-collections";
+
+    private final Deque<String> urls = new ArrayDeque<>();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final List<String> processedUrls = new CopyOnWriteArrayList<>();
+    private Multimap<String, String> badURLs;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenAFirstAttemptRecordingAFailure_whenItThrowsATransientError_thenOnlyTheRecordsOfTheRetryCount() throws IOException, NoSuchMethodException {
+        try (FailureSink sink = new FailureSink(tempDir.resolve("AllUrlsUITest.tsv"), 200)) {
+            badURLs = UrlAttempt.holdBack(sink);
+            urls.add(URL);
+            final AllUrlsConcurrentExtension extension = new AllUrlsConcurrentExtension(1, () -> new SitePage(mock(browserConfig.class)),
+                () -> LoggerFactory.getLogger(AllUrlsConcurrentExtensionUnitTest.class), this::nextUrl, page -> {
+                }, page -> urls.add(page.getUrl()));
+
+            extension.invokeTestMethod(invocationOf("flakyCheck"));
+
+            assertEquals(2, attempts.get());
+            assertEquals(1, BaseTest.getExecutedTestsNames()
+                .get(TEST_NAME));
+            assertNull(BaseTest.getFailedTestsNames()
+                .get(TEST_NAME));
+            assertTrue(sink.isEmpty());
+        }
+    }
+
+    @Test
+    void givenAUrlFailingOnAllItsAttempts_whenItCantBeRequeuedAnymore_thenItIsReportedAndTheWorkerGoesOn() throws NoSuchMethodException {
+        urls.add(URL);
+        urls.add(OTHER_URL);
+        final List<String> givenUp = new CopyOnWriteArrayList<>();
+        final AllUrlsConcurrentExtension extension = new AllUrlsConcurrentExtension(1, () -> new SitePage(mock(browserConfig.class)),
+            () -> LoggerFactory.getLogger(AllUrlsConcurrentExtensionUnitTest.class), this::nextUrl, page -> processedUrls.add(page.getUrl()),
+            // tried twice in total
+            page -> attempts.get() < 2 && urls.add(page.getUrl()), (page, failure, error) -> givenUp.add(page.getUrl() + " " + failure));
+
+        extension.invokeTestMethod(invocationOf("timingOutCheck"));
+
+        assertEquals(List.of(URL + " " + WorkerFailure.TRANSIENT), givenUp);
+        // requeued after the other url the first time
+        assertEquals(List.of(OTHER_URL, URL), processedUrls);
+    }
+
+    /**
+     * Times out on {@link #URL} whenever it's loaded.
+     */
+    public void timingOutCheck(SitePage page) {
+        if (URL.equals(page.getUrl())) {
+            attempts.incrementAndGet();
+            throw new TimeoutException("Expected condition failed: waiting for the page to load");
+        }
+    }
+
+    /**
+     * The test method run by the extension, the first attempt records a failure before it times out.
+     */
+    public void flakyCheck(SitePage page) {
+        BaseTest.recordExecution(TEST_NAME);
+        if (attempts.incrementAndGet() == 1) {
+            BaseTest.recordFailure(TEST_NAME);
+            badURLs.put(TEST_NAME, page.getUrlWithNewLineFeed());
+            throw new TimeoutException("Expected condition failed: waiting for the page to load");
+        }
+    }
+
+    private boolean nextUrl(SitePage page) {
+        final String url = urls.poll();
+        if (url == null) {
+            return false;
+        }
+        page.setUrl(url);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ReflectiveInvocationContext<Method> invocationOf(String methodName) throws NoSuchMethodException {
+        final ReflectiveInvocationContext<Method> invocationContext = mock(ReflectiveInvocationContext.class);
+        when(invocationContext.getExecutable()).thenReturn(getClass().getMethod(methodName, SitePage.class));
+        when(invocationContext.getArguments()).thenReturn(Arrays.asList((Object) null));
+        when(invocationContext.getTarget()).thenReturn(Optional.of(this));
+        return invocationContext;
+    }
+
+}
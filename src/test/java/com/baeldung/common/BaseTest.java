@@ -3,9 +3,12 @@ package com.baeldung.common;
 import static com.baeldung.common.ConsoleColors.magentaColordMessage;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -24,13 +27,30 @@ public class BaseTest {
 
     protected Logger logger = LoggerFactory.getLogger(getClass());
     protected static Logger baseLogger = LoggerFactory.getLogger(BaseTest.class);
-    protected static AtomicInteger failedTests = new AtomicInteger(0);
+    protected static LongAdder failedTests = new LongAdder();
 
-    private static final Map<String, Integer> executedTestsNames = new ConcurrentHashMap<>(CONCURRENCY_LEVEL * 4, 0.75f, CONCURRENCY_LEVEL);
-    private static final Map<String, Integer> failedTestsNames = new ConcurrentHashMap<>(CONCURRENCY_LEVEL * 4, 0.75f, CONCURRENCY_LEVEL);
+    // striped counters, workers don't contend on the same map entry for every url
+    private static final Map<String, LongAdder> executedTestsNames = new ConcurrentHashMap<>(CONCURRENCY_LEVEL * 4, 0.75f, CONCURRENCY_LEVEL);
+    private static final Map<String, LongAdder> failedTestsNames = new ConcurrentHashMap<>(CONCURRENCY_LEVEL * 4, 0.75f, CONCURRENCY_LEVEL);
+    private static final List<RecordListener> recordListeners = new CopyOnWriteArrayList<>();
 
+    private static LongAdder counter(Map<String, LongAdder> counters, String name) {
+        final LongAdder counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    private static Map<String, Integer> snapshot(Map<String, LongAdder> counters) {
+        final Map<String, Integer> snapshot = new LinkedHashMap<>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.intValue()));
+        return snapshot;
+    }
+
+    /**
+     * Within a {@link UrlAttempt}, the counters are updated once the attempt is committed.
+     */
     protected static void recordExecution(String name) {
-        executedTestsNames.merge(name, 1, Integer::sum);
+        UrlAttempt.record(() -> counter(executedTestsNames, name).increment());
+        recordListeners.forEach(listener -> listener.recordExecution(name));
     }
 
     protected static void recordFailure(String name) {
@@ -38,28 +58,37 @@ public class BaseTest {
     }
 
     protected static void recordFailure(String name, int count) {
-        failedTestsNames.merge(name, count, Integer::sum);
+        UrlAttempt.record(() -> counter(failedTestsNames, name).add(count));
+        recordListeners.forEach(listener -> listener.recordFailure(name, count));
     }
 
     protected static void recordMetrics(int count, TestMetricTypes metricType) {
         if (metricType.equals(TestMetricTypes.FAILED)) {
-            failedTests.getAndAdd(count);
+            UrlAttempt.record(() -> failedTests.add(count));
+            recordListeners.forEach(listener -> listener.recordMetrics(count));
         }
     }
 
+    /**
+     * Forwards all the records made from now on to the listener.
+     */
+    static void addRecordListener(RecordListener listener) {
+        recordListeners.add(listener);
+    }
+
     public static int getMetrics(TestMetricTypes metricType) {
         if (metricType.equals(TestMetricTypes.FAILED)) {
-            return failedTests.get();
+            return failedTests.intValue();
         }
         return -1;
     }
 
     public static Map<String, Integer> getExecutedTestsNames() {
-        return executedTestsNames;
+        return snapshot(executedTestsNames);
     }
 
     public static Map<String, Integer> getFailedTestsNames() {
-        return failedTestsNames;
+        return snapshot(failedTestsNames);
     }
 
     protected void failTestWithLoggingTotalNoOfFailures(String fialureMessage) {
@@ -79,8 +108,8 @@ public class BaseTest {
 
     @AfterAll
     public static void logTestMertics() {
-        if (failedTests.get() != 0) {
-            baseLogger.info(Utils.messageForTotalNoOfFailures(failedTests.get()));
+        if (failedTests.sum() != 0) {
+            baseLogger.info(Utils.messageForTotalNoOfFailures(failedTests.intValue()));
         }
 
     }
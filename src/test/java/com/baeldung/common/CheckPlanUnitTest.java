@@ -0,0 +1,79 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.site.SitePage;
+
+public class CheckPlanUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenExceptionsOfTheTestNames_whenPlanning_thenOnlyUrlsExcludedForAllTestNamesAreLeftOut() throws IOException {
+        final CheckPlan plan = new CheckPlan(writeCatalog(), new UrlShard(0, 1));
+        plan.learnWpTags("/java-streams", Set.of("no-before-post"));
+
+        assertEquals(List.of("/java-inner-interfaces"),
+            toList(plan, plan.plan(SitePage.Type.ARTICLE, List.of(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop))));
+        assertEquals(List.of("/java-inner-interfaces", "/java-streams"), toList(plan, plan.plan(SitePage.Type.ARTICLE,
+            List.of(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheTop, GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd))));
+        assertEquals(List.of("/java-inner-interfaces", "/java-streams", "/linux/grep-examples"), toList(plan, plan.plan(SitePage.Type.ARTICLE, List.of())));
+        assertEquals(List.of("/webinar"), toList(plan, plan.plan(SitePage.Type.PAGE, List.of())));
+    }
+
+    @Test
+    void givenWpTagsOfALoadedPage_whenPlanningTheNextCheck_thenThePageIsLeftOut() throws IOException {
+        final CheckPlan plan = new CheckPlan(writeCatalog(), new UrlShard(0, 1));
+
+        plan.learnWpTags("/java-inner-interfaces", Set.of("no-after-post"));
+
+        assertEquals(List.of("/java-streams"),
+            toList(plan, plan.plan(SitePage.Type.ARTICLE, List.of(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd))));
+    }
+
+    @Test
+    void givenWpTagsLearnedInAPreviousRun_whenPlanningFromTheSavedCatalog_thenThePageIsLeftOut() throws IOException {
+        final Path catalogFile = tempDir.resolve(GlobalConstants.URL_CATALOG_FILE_NAME);
+        final CheckPlan previousRun = new CheckPlan(writeCatalog(), new UrlShard(0, 1));
+        previousRun.learnWpTags("/java-inner-interfaces", Set.of("no-after-post"));
+        previousRun.saveWpTags(catalogFile);
+
+        final CheckPlan plan = new CheckPlan(UrlCatalog.open(catalogFile), new UrlShard(0, 1));
+
+        assertEquals(List.of("/java-streams"),
+            toList(plan, plan.plan(SitePage.Type.ARTICLE, List.of(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItHasSingleShortcodeAtTheEnd))));
+        assertEquals(List.of("/java-inner-interfaces", "/java-streams", "/linux/grep-examples"), toList(plan, plan.plan(SitePage.Type.ARTICLE, List.of())));
+    }
+
+    private UrlCatalog writeCatalog() throws IOException {
+        final UrlCatalogWriter writer = new UrlCatalogWriter();
+        writer.add("/java-inner-interfaces", SitePage.Type.ARTICLE.name());
+        writer.add("/java-streams", SitePage.Type.ARTICLE.name());
+        writer.add("/linux/grep-examples", SitePage.Type.ARTICLE.name());
+        // excluded from all tests
+        writer.add("/junit-5-preview", SitePage.Type.ARTICLE.name());
+        writer.add("/webinar", SitePage.Type.PAGE.name());
+        final Path catalogFile = tempDir.resolve(GlobalConstants.URL_CATALOG_FILE_NAME);
+        writer.write(catalogFile);
+        return UrlCatalog.open(catalogFile);
+    }
+
+    private static List<String> toList(CheckPlan plan, BitSet planned) {
+        final List<String> urls = new ArrayList<>();
+        plan.iterator(planned)
+            .forEachRemaining(urls::add);
+        return urls;
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adapts the number of active browser sessions of {@link AllUrlsConcurrentExtension} with an AIMD policy:
+ * one more session after a healthy interval, a quarter less when the error rate, the timeout rate or the page latency goes up,
+ * or when the host is low on memory. Every decision is logged.
+ * <br/>
+ * Enabled via -Dconcurrency.adaptive=true, then -Dconcurrency.level is the initial number of sessions,
+ * bounded by -Dconcurrency.min=1 and -Dconcurrency.max (default twice the level). The decisions are taken
+ * every -Dconcurrency.adjust.interval.seconds=30
+ */
+@ThreadSafe
+public class ConcurrencyController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyController.class);
+
+    static final int MIN_SAMPLES = 5;
+    static final double MAX_ERROR_RATE = 0.05;
+    static final double MAX_TIMEOUT_RATE = 0.02;
+    static final double MIN_AVAILABLE_MEMORY = 0.10;
+    static final double MAX_LATENCY_FACTOR = 2.0;
+    static final double DECREASE_FACTOR = 0.75;
+
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+
+    private static volatile ConcurrencyController instance;
+
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final long intervalNanos;
+    private final DoubleSupplier availableMemory;
+
+    // guarded by this
+    private int limit;
+    private int active;
+    private long windowStart = System.nanoTime();
+    private int samples;
+    private int errors;
+    private int timeouts;
+    private long latencyNanos;
+    private double baselineLatency = Double.MAX_VALUE;
+
+    ConcurrencyController(int initialConcurrency, int minConcurrency, int maxConcurrency, long intervalNanos, DoubleSupplier availableMemory) {
+        this.minConcurrency = Math.max(1, minConcurrency);
+        this.maxConcurrency = Math.max(this.minConcurrency, maxConcurrency);
+        this.limit = Math.min(Math.max(initialConcurrency, this.minConcurrency), this.maxConcurrency);
+        this.intervalNanos = intervalNanos;
+        this.availableMemory = availableMemory;
+    }
+
+    /**
+     * @return the shared controller or null if not enabled via -Dconcurrency.adaptive=true
+     */
+    public static ConcurrencyController getInstance(int concurrency) {
+        if (!Boolean.getBoolean(GlobalConstants.ENV_PROPERTY_CONCURRENCY_ADAPTIVE)) {
+            return null;
+        }
+        if (instance == null) {
+            synchronized (ConcurrencyController.class) {
+                if (instance == null) {
+                    instance = new ConcurrencyController(concurrency,
+                        Integer.getInteger(GlobalConstants.ENV_PROPERTY_CONCURRENCY_MIN, 1),
+                        Integer.getInteger(GlobalConstants.ENV_PROPERTY_CONCURRENCY_MAX, concurrency * 2),
+                        TimeUnit.SECONDS.toNanos(Long.getLong(GlobalConstants.ENV_PROPERTY_CONCURRENCY_ADJUST_INTERVAL, 30)),
+                        ConcurrencyController::availableMemory);
+                    logger.info(ConsoleColors.magentaColordMessage("Adaptive concurrency enabled, {} sessions within [{}, {}]"), instance.limit,
+                        instance.minConcurrency, instance.maxConcurrency);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Number of worker threads to start, the extra ones wait for a lease.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Blocks until a session is allowed.
+     *
+     * @param cancelled checked on every wake up, e.g. if there are no urls left
+     * @return false if cancelled
+     */
+    public synchronized boolean acquire(BooleanSupplier cancelled) {
+        while (!cancelled.getAsBoolean()) {
+            if (active < limit) {
+                active++;
+                return true;
+            }
+            try {
+                wait(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void release() {
+        active--;
+        notifyAll();
+    }
+
+    /**
+     * Releases the lease of the caller if there are more active sessions than allowed.
+     *
+     * @return true if released, the caller should close its session
+     */
+    public synchronized boolean tryYield() {
+        if (active > limit) {
+            release();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param nanos time spent on the url, load and checks
+     * @param error the exception the url failed with or null
+     */
+    public synchronized void record(long nanos, Throwable error) {
+        samples++;
+        if (error == null) {
+            latencyNanos += nanos;
+        } else if (error instanceof TimeoutException) {
+            timeouts++;
+        } else {
+            errors++;
+        }
+        if (System.nanoTime() - windowStart >= intervalNanos) {
+            adjust();
+        }
+    }
+
+    synchronized void adjust() {
+        final long now = System.nanoTime();
+        final double memory = availableMemory.getAsDouble();
+        if (samples < MIN_SAMPLES && memory >= MIN_AVAILABLE_MEMORY) {
+            return;
+        }
+
+        final List<String> reasons = new ArrayList<>();
+        if (samples > 0 && (double) errors / samples > MAX_ERROR_RATE) {
+            reasons.add(String.format("error rate %.1f%%", 100.0 * errors / samples));
+        }
+        if (samples > 0 && (double) timeouts / samples > MAX_TIMEOUT_RATE) {
+            reasons.add(String.format("timeout rate %.1f%%", 100.0 * timeouts / samples));
+        }
+        if (memory < MIN_AVAILABLE_MEMORY) {
+            reasons.add(String.format("available memory %.1f%%", 100.0 * memory));
+        }
+        final int successes = samples - errors - timeouts;
+        final double latency = successes > 0 ? (double) latencyNanos / successes : 0;
+        if (successes > 0 && latency > baselineLatency * MAX_LATENCY_FACTOR) {
+            reasons.add(String.format("latency %d ms, baseline %d ms", TimeUnit.NANOSECONDS.toMillis((long) latency),
+                TimeUnit.NANOSECONDS.toMillis((long) baselineLatency)));
+        }
+
+        final int previous = limit;
+        if (!reasons.isEmpty()) {
+            limit = Math.max(minConcurrency, Math.min(limit - 1, (int) (limit * DECREASE_FACTOR)));
+            logger.info(ConsoleColors.magentaColordMessage("Concurrency {} -> {}, because of {}"), previous, limit, String.join(", ", reasons));
+        } else {
+            if (successes > 0) {
+                baselineLatency = Math.min(baselineLatency, latency);
+            }
+            limit = Math.min(maxConcurrency, limit + 1);
+            logger.info(ConsoleColors.magentaColordMessage("Concurrency {} -> {}, {} urls at {} ms with {} errors"), previous, limit, samples,
+                TimeUnit.NANOSECONDS.toMillis((long) latency), errors + timeouts);
+        }
+        notifyAll();
+
+        windowStart = now;
+        samples = 0;
+        errors = 0;
+        timeouts = 0;
+        latencyNanos = 0;
+    }
+
+    /**
+     * Ratio of the available physical memory of the host. Uses MemAvailable on Linux,
+     * as the free memory reported by the JVM doesn't count the reclaimable page cache.
+     */
+    static double availableMemory() {
+        if (Files.isReadable(MEMINFO)) {
+            try {
+                long total = 0;
+                long available = 0;
+                for (String line : Files.readAllLines(MEMINFO)) {
+                    if (line.startsWith("MemTotal:")) {
+                        total = parseMemInfoValue(line);
+                    } else if (line.startsWith("MemAvailable:")) {
+                        available = parseMemInfoValue(line);
+                    }
+                }
+                if (total > 0 && available > 0) {
+                    return (double) available / total;
+                }
+            } catch (IOException | NumberFormatException e) {
+                logger.debug("Couldn't read {}: {}", MEMINFO, e.getMessage());
+            }
+        }
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os && os.getTotalMemorySize() > 0) {
+            return (double) os.getFreeMemorySize() / os.getTotalMemorySize();
+        }
+        return 1;
+    }
+
+    private static long parseMemInfoValue(String line) {
+        return Long.parseLong(line.replaceAll("\\D", ""));
+    }
+
+}
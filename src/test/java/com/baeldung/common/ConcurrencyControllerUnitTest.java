@@ -0,0 +1,101 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+
+public class ConcurrencyControllerUnitTest {
+
+    private static final long URL_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    void givenHealthyIntervals_whenAdjusting_thenConcurrencyGrowsUpToTheMaximum() {
+        final ConcurrencyController controller = new ConcurrencyController(3, 1, 5, Long.MAX_VALUE, () -> 0.5);
+
+        for (int i = 0; i < 3; i++) {
+            recordUrls(controller, 10, URL_NANOS, null);
+            controller.adjust();
+        }
+
+        assertEquals(5, controller.getLimit());
+    }
+
+    @Test
+    void givenTooFewSamples_whenAdjusting_thenConcurrencyIsKept() {
+        final ConcurrencyController controller = new ConcurrencyController(3, 1, 5, Long.MAX_VALUE, () -> 0.5);
+
+        recordUrls(controller, ConcurrencyController.MIN_SAMPLES - 1, URL_NANOS, null);
+        controller.adjust();
+
+        assertEquals(3, controller.getLimit());
+    }
+
+    @Test
+    void givenErrorsOrTimeouts_whenAdjusting_thenConcurrencyShrinksDownToTheMinimum() {
+        final ConcurrencyController controller = new ConcurrencyController(8, 2, 8, Long.MAX_VALUE, () -> 0.5);
+
+        recordUrls(controller, 9, URL_NANOS, null);
+        recordUrls(controller, 1, URL_NANOS, new IllegalStateException());
+        controller.adjust();
+        assertEquals(6, controller.getLimit());
+
+        recordUrls(controller, 9, URL_NANOS, null);
+        recordUrls(controller, 1, URL_NANOS, new TimeoutException());
+        controller.adjust();
+        assertEquals(4, controller.getLimit());
+
+        for (int i = 0; i < 3; i++) {
+            recordUrls(controller, 10, URL_NANOS, new TimeoutException());
+            controller.adjust();
+        }
+        assertEquals(2, controller.getLimit());
+    }
+
+    @Test
+    void givenLatencyAboveTheBaseline_whenAdjusting_thenConcurrencyShrinks() {
+        final ConcurrencyController controller = new ConcurrencyController(4, 1, 8, Long.MAX_VALUE, () -> 0.5);
+
+        recordUrls(controller, 10, URL_NANOS, null);
+        controller.adjust();
+        assertEquals(5, controller.getLimit());
+
+        recordUrls(controller, 10, URL_NANOS * 3, null);
+        controller.adjust();
+        assertEquals(3, controller.getLimit());
+    }
+
+    @Test
+    void givenLowMemory_whenAdjusting_thenConcurrencyShrinksEvenWithoutSamples() {
+        final ConcurrencyController controller = new ConcurrencyController(4, 1, 8, Long.MAX_VALUE, () -> 0.05);
+
+        controller.adjust();
+
+        assertEquals(3, controller.getLimit());
+    }
+
+    @Test
+    void givenAShrunkLimit_whenWorkersCheckTheirLeases_thenOnlyTheExcessYields() {
+        final ConcurrencyController controller = new ConcurrencyController(4, 1, 8, Long.MAX_VALUE, () -> 0.05);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(controller.acquire(() -> false));
+        }
+
+        controller.adjust();
+
+        assertTrue(controller.tryYield());
+        assertFalse(controller.tryYield());
+        assertFalse(controller.acquire(() -> true));
+    }
+
+    private static void recordUrls(ConcurrencyController controller, int count, long nanos, Throwable error) {
+        for (int i = 0; i < count; i++) {
+            controller.record(nanos, error);
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.baeldung.common;
 
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -37,8 +38,9 @@ public class ConcurrentBaseTest extends BaseTest {
         if (CollectionUtils.isEmpty(page.getWpTags()) || !Utils.hasSkipTags(testName)) {
             return false;
         }
-        if (Utils.excludePage(page.getWpTags(), Utils.getSkipTags(testName))) {
-            logger.info("Skipping {} for test: {} because of skip tags {}", page.getUrl(), testName, Utils.getSkipTags(testName));
+        final Set<String> skipTags = Utils.getSkipTags(testName);
+        if (Utils.excludePage(page.getWpTags(), skipTags)) {
+            logger.info("Skipping {} for test: {} because of skip tags {}", page.getUrl(), testName, skipTags);
             return true;
         }
         return false;
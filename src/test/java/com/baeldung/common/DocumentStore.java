@@ -0,0 +1,107 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parsed pages shared by the tests of a run, so a page checked by several tests is downloaded and parsed only once.
+ * All the urls are fetched concurrently on the first access, the tests then only query the documents in memory.
+ * <br/>
+ * The documents are shared, the tests must not modify them.
+ */
+@ThreadSafe
+public class DocumentStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentStore.class);
+
+    @FunctionalInterface
+    public interface DocumentFetcher {
+
+        Document fetch(String url) throws IOException;
+
+    }
+
+    private final Callable<? extends Collection<String>> urls;
+    private final DocumentFetcher fetcher;
+    private final int concurrency;
+    private final Map<String, CompletableFuture<Document>> documents = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private boolean prefetched;
+
+    /**
+     * @param urls the urls to prefetch, e.g. the urls of a test data provider
+     */
+    public DocumentStore(Callable<? extends Collection<String>> urls, DocumentFetcher fetcher, int concurrency) {
+        this.urls = urls;
+        this.fetcher = fetcher;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Waits for the document if it's still being fetched, a url which isn't prefetched is fetched on the caller thread and not kept.
+     */
+    public Document get(String url) throws IOException {
+        prefetch();
+        final CompletableFuture<Document> document = documents.get(url);
+        if (document == null) {
+            return fetcher.fetch(url);
+        }
+        try {
+            return document.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void prefetch() throws IOException {
+        if (prefetched) {
+            return;
+        }
+        prefetched = true;
+
+        final Collection<String> urlsToFetch;
+        try {
+            urlsToFetch = urls.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        logger.info("Prefetching {} pages on {} threads", urlsToFetch.size(), concurrency);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "document-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (String url : urlsToFetch) {
+            documents.computeIfAbsent(url, key -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return fetcher.fetch(key);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+        // the submitted fetches still run, the threads end with the last one
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+public class DocumentStoreUnitTest {
+
+    private final FetchCounter fetches = new FetchCounter();
+
+    @Test
+    void givenPrefetchedUrls_whenSeveralTestsGetThem_thenEachUrlIsFetchedOnce() throws IOException {
+        final DocumentStore store = new DocumentStore(() -> List.of("/a", "/b", "/c"), this::fetch, 2);
+
+        for (int test = 0; test < 3; test++) {
+            for (String url : List.of("/a", "/b", "/c")) {
+                assertEquals(url, store.get(url)
+                    .location());
+            }
+        }
+
+        assertSame(store.get("/a"), store.get("/a"));
+        fetches.getUrls()
+            .forEach(url -> assertEquals(1, fetches.get(url)));
+        assertEquals(3, fetches.getUrls()
+            .size());
+    }
+
+    @Test
+    void givenAUrlWhichIsNotPrefetched_whenGettingIt_thenItIsFetchedOnEveryCall() throws IOException {
+        final DocumentStore store = new DocumentStore(() -> List.of("/a"), this::fetch, 1);
+
+        store.get("/other");
+        store.get("/other");
+
+        assertEquals(2, fetches.get("/other"));
+    }
+
+    @Test
+    void givenAFailingUrl_whenGettingIt_thenTheIOExceptionIsThrown() {
+        final DocumentStore store = new DocumentStore(() -> List.of("/a"), url -> {
+            throw new IOException("404");
+        }, 1);
+
+        assertThrows(IOException.class, () -> store.get("/a"));
+    }
+
+    private Document fetch(String url) {
+        fetches.record(url);
+        return new Document(url);
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.baeldung.common;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ForwardingListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Collects the bad urls of a test in an append-only file instead of the heap, so the memory stays flat however many pages fail.
+ * <br/>
+ * Each failure is a record of the test id, the url and the detail, the test names are written once with their ids.
+ * Only the number of failures per test is kept in memory. A read streams the file and sees at most
+ * -Dfailure.report.max-per-test=200 failures of each test, followed by how many more there are in the file,
+ * so the failure message stays bounded too, while {@link #readAll()} sees them all, e.g. for the shard results.
+ * Like {@link PerThreadMultimap}, it's meant to be read only after the workers are done.
+ * <br/>
+ * The files are written to -Dfailure.sink.dir=target/failures, one per test, and kept after the run.
+ */
+@ThreadSafe
+public class FailureSink extends ForwardingListMultimap<String, String> implements Closeable {
+
+    private static final String TEST = "T";
+    private static final String FAILURE = "F";
+    private static final String SEPARATOR = "\t";
+
+    private static final Pattern URL = Pattern.compile("https?://[^\\s)\"']+");
+
+    private final Path file;
+    private final int maxPerTest;
+
+    // guarded by this
+    private final BufferedWriter writer;
+
+    private final Map<String, Integer> testIds = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> totals = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+    // guarded by this, rebuilt on the first read after a put
+    private ListMultimap<String, String> view;
+    // guarded by this
+    private boolean closed;
+
+    FailureSink(Path file, int maxPerTest) throws IOException {
+        this.file = file;
+        this.maxPerTest = maxPerTest;
+        Files.createDirectories(file.toAbsolutePath()
+            .getParent());
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens the sink of a test with the settings of the system properties, replacing the file of a previous run.
+     */
+    public static FailureSink open(String testName) {
+        try {
+            return new FailureSink(Paths.get(System.getProperty(GlobalConstants.ENV_PROPERTY_FAILURE_SINK_DIR, GlobalConstants.DEFAULT_FAILURE_SINK_DIR))
+                .resolve(testName + ".tsv"), Integer.getInteger(GlobalConstants.ENV_PROPERTY_FAILURE_REPORT_MAX_PER_TEST, 200));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public boolean put(String testName, String detail) {
+        final Matcher url = URL.matcher(detail);
+        final String record = String.join(SEPARATOR, FAILURE, String.valueOf(testId(testName)), url.find() ? url.group() : "", ProgressJournal.escape(detail));
+        write(record);
+        totals.computeIfAbsent(testName, key -> new LongAdder())
+            .increment();
+        total.increment();
+        return true;
+    }
+
+    @Override
+    public boolean putAll(String testName, Iterable<? extends String> details) {
+        boolean changed = false;
+        for (String detail : details) {
+            changed |= put(testName, detail);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean putAll(Multimap<? extends String, ? extends String> multimap) {
+        boolean changed = false;
+        for (Map.Entry<? extends String, ? extends String> entry : multimap.entries()) {
+            changed |= put(entry.getKey(), entry.getValue());
+        }
+        return changed;
+    }
+
+    private int testId(String testName) {
+        final Integer id = testIds.get(testName);
+        return id != null ? id : newTestId(testName);
+    }
+
+    private synchronized int newTestId(String testName) {
+        Integer id = testIds.get(testName);
+        if (id == null) {
+            id = testIds.size();
+            write(String.join(SEPARATOR, TEST, String.valueOf(id), ProgressJournal.escape(testName)));
+            testIds.put(testName, id);
+        }
+        return id;
+    }
+
+    private synchronized void write(String record) {
+        try {
+            writer.write(record);
+            writer.newLine();
+            view = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the number of all the failures, not only the ones read
+     */
+    @Override
+    public int size() {
+        return total.intValue();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public long getTotal(String testName) {
+        final LongAdder count = totals.get(testName);
+        return count == null ? 0 : count.sum();
+    }
+
+    @Override
+    protected synchronized ListMultimap<String, String> delegate() {
+        if (view == null) {
+            try {
+                view = read(maxPerTest);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return view;
+    }
+
+    /**
+     * Streams all the failures of the file, without the cap of the reads.
+     */
+    public synchronized ListMultimap<String, String> readAll() {
+        try {
+            return read(Integer.MAX_VALUE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ListMultimap<String, String> read(int maxPerTest) throws IOException {
+        if (!closed) {
+            writer.flush();
+        }
+        final List<String> testNames = new ArrayList<>();
+        final ListMultimap<String, String> failures = ArrayListMultimap.create();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] fields = line.split(SEPARATOR, -1);
+                if (TEST.equals(fields[0])) {
+                    testNames.add(ProgressJournal.unescape(fields[2]));
+                } else if (FAILURE.equals(fields[0])) {
+                    final String testName = testNames.get(Integer.parseInt(fields[1]));
+                    if (failures.get(testName)
+                        .size() < maxPerTest) {
+                        failures.put(testName, ProgressJournal.unescape(fields[3]));
+                    }
+                }
+            }
+        }
+        for (String testName : testNames) {
+            final long more = getTotal(testName) - maxPerTest;
+            if (more > 0) {
+                failures.put(testName, "\n... and " + more + " more, all the failures are in " + file.toAbsolutePath());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        writer.close();
+    }
+
+}
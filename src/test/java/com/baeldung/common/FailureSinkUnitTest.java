@@ -0,0 +1,83 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FailureSinkUnitTest {
+
+    private static final String TITLE_TEST = "givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperTitleCapitalization";
+    private static final String NOINDEX_TEST = "givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainNoindexTag";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenMoreFailuresThanTheCap_whenReading_thenOnlyTheFirstOnesAndTheTotalAreRead() throws IOException {
+        final Path file = tempDir.resolve("AllUrlsUITest.tsv");
+        try (FailureSink sink = new FailureSink(file, 2)) {
+            for (int i = 0; i < 5; i++) {
+                sink.put(TITLE_TEST, "\nhttps://www.baeldung.com/java-" + i + " ( Found: java\tstreams )\n");
+            }
+            sink.put(NOINDEX_TEST, "\nhttps://www.baeldung.com/thank-you");
+
+            assertEquals(6, sink.size());
+            assertEquals(5, sink.getTotal(TITLE_TEST));
+            assertEquals(List.of("\nhttps://www.baeldung.com/java-0 ( Found: java\tstreams )\n", "\nhttps://www.baeldung.com/java-1 ( Found: java\tstreams )\n",
+                "\n... and 3 more, all the failures are in " + file.toAbsolutePath()), sink.get(TITLE_TEST));
+            assertEquals(List.of("\nhttps://www.baeldung.com/thank-you"), sink.get(NOINDEX_TEST));
+        }
+        final List<String> lines = Files.readAllLines(file);
+        assertEquals(8, lines.size());
+        assertEquals("T\t0\t" + TITLE_TEST, lines.get(0));
+        assertEquals("F\t0\thttps://www.baeldung.com/java-4\t\\nhttps://www.baeldung.com/java-4 ( Found: java\\tstreams )\\n", lines.get(5));
+    }
+
+    @Test
+    void givenMoreFailuresThanTheCap_whenReadingAll_thenNoneIsLeftOut() throws IOException {
+        try (FailureSink sink = new FailureSink(tempDir.resolve("AllUrlsUITest.tsv"), 2)) {
+            for (int i = 0; i < 5; i++) {
+                sink.put(TITLE_TEST, "\nhttps://www.baeldung.com/java-" + i);
+            }
+
+            assertEquals(3, sink.get(TITLE_TEST)
+                .size());
+            assertEquals(List.of("\nhttps://www.baeldung.com/java-0", "\nhttps://www.baeldung.com/java-1", "\nhttps://www.baeldung.com/java-2",
+                "\nhttps://www.baeldung.com/java-3", "\nhttps://www.baeldung.com/java-4"), sink.readAll()
+                    .get(TITLE_TEST));
+        }
+    }
+
+    @Test
+    void givenConcurrentWorkers_whenPutting_thenAllTheFailuresAreWritten() throws Exception {
+        try (FailureSink sink = new FailureSink(tempDir.resolve("AllUrlsUITest.tsv"), 1000)) {
+            final List<Thread> workers = new ArrayList<>();
+            for (int worker = 0; worker < 4; worker++) {
+                final String testName = worker % 2 == 0 ? TITLE_TEST : NOINDEX_TEST;
+                workers.add(new Thread(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        sink.put(testName, "\nhttps://www.baeldung.com/page-" + i);
+                    }
+                }));
+            }
+            workers.forEach(Thread::start);
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            assertEquals(1000, sink.size());
+            assertEquals(500, sink.get(TITLE_TEST)
+                .size());
+            assertEquals(500, sink.get(NOINDEX_TEST)
+                .size());
+        }
+    }
+
+}
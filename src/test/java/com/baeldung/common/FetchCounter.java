@@ -0,0 +1,26 @@
+package com.baeldung.common;
+
+import java.util.Set;
+
+import com.google.common.collect.ConcurrentHashMultiset;
+
+/**
+ * Counts the fetches per url of the fake fetchers of the unit tests, safe to call from the threads of the tested class.
+ */
+final class FetchCounter {
+
+    private final ConcurrentHashMultiset<String> fetches = ConcurrentHashMultiset.create();
+
+    void record(String url) {
+        fetches.add(url);
+    }
+
+    int get(String url) {
+        return fetches.count(url);
+    }
+
+    Set<String> getUrls() {
+        return fetches.elementSet();
+    }
+
+}
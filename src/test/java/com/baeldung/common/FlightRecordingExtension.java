@@ -0,0 +1,73 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Dumps the flight recording started by the jfr maven profile when a test fails, to analyze the run in JMC:
+ * the events of {@link com.baeldung.common.jfr} alongside the CPU and allocation profiles.
+ * <br/>
+ * Registered via the service loader, the jfr profile enables it with junit.jupiter.extensions.autodetection.enabled=true.
+ * The dumps are written to -Djfr.dump.dir=target/jfr
+ */
+public class FlightRecordingExtension implements TestWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordingExtension.class);
+
+    static final String RECORDING_NAME = "blogwatch";
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        final String testName = context.getRequiredTestClass()
+            .getSimpleName() + context.getTestMethod()
+                .map(method -> "." + method.getName())
+                .orElse("");
+        try {
+            dump(RECORDING_NAME, Paths.get(System.getProperty(GlobalConstants.ENV_PROPERTY_JFR_DUMP_DIR, GlobalConstants.DEFAULT_JFR_DUMP_DIR)), testName)
+                .ifPresent(file -> logger.info(ConsoleColors.magentaColordMessage("Dumped the flight recording of {} to {}"), testName, file));
+        } catch (IOException e) {
+            logger.error("Couldn't dump the flight recording of {}", testName, e);
+        }
+    }
+
+    /**
+     * @return the dump file, empty if the recording isn't running
+     */
+    static Optional<Path> dump(String recordingName, Path directory, String testName) throws IOException {
+        // don't start the flight recorder if it isn't already
+        if (!FlightRecorder.isInitialized()) {
+            return Optional.empty();
+        }
+        final Optional<Recording> recording = FlightRecorder.getFlightRecorder()
+            .getRecordings()
+            .stream()
+            .filter(candidate -> recordingName.equals(candidate.getName()) && candidate.getState() == RecordingState.RUNNING)
+            .findFirst();
+        if (recording.isEmpty()) {
+            return Optional.empty();
+        }
+        Files.createDirectories(directory);
+        final Path file = directory.resolve(testName + "-" + LocalDateTime.now()
+            .format(TIMESTAMP) + ".jfr");
+        recording.get()
+            .dump(file);
+        return Optional.of(file);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.jfr.PageLoadEvent;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecordingExtensionUnitTest {
+
+    private static final String URL = "https://www.baeldung.com/java-streams";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenARunningRecording_whenATestFails_thenItIsDumpedWithTheEventsOfThePageLoads() throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.setName(FlightRecordingExtension.RECORDING_NAME);
+            recording.enable(PageLoadEvent.class);
+            recording.start();
+            final PageLoadEvent event = new PageLoadEvent(URL);
+            event.begin();
+            event.setStatus(200);
+            event.commit();
+
+            final Optional<Path> dump = FlightRecordingExtension.dump(FlightRecordingExtension.RECORDING_NAME, tempDir, "AllUrlsUITest.givenAllArticles_whenAnArticleLoads_thenItIsFast");
+
+            assertTrue(dump.isPresent());
+            assertTrue(dump.get()
+                .getFileName()
+                .toString()
+                .startsWith("AllUrlsUITest.givenAllArticles_whenAnArticleLoads_thenItIsFast-"));
+            final List<RecordedEvent> pageLoads = RecordingFile.readAllEvents(dump.get())
+                .stream()
+                .filter(recorded -> recorded.getEventType()
+                    .getName()
+                    .equals("com.baeldung.PageLoad"))
+                .toList();
+            assertEquals(1, pageLoads.size());
+            assertEquals(URL, pageLoads.get(0)
+                .getString("url"));
+            assertEquals(200, pageLoads.get(0)
+                .getInt("status"));
+        }
+    }
+
+    @Test
+    void givenNoRunningRecording_whenATestFails_thenNothingIsDumped() throws IOException {
+        assertEquals(Optional.empty(), FlightRecordingExtension.dump("not-recording", tempDir, "AllUrlsUITest.givenAllArticles_whenAnArticleLoads_thenItIsFast"));
+    }
+
+}
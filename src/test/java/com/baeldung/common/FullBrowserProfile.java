@@ -0,0 +1,19 @@
+package com.baeldung.common;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.baeldung.selenium.config.BrowserProfile;
+
+/**
+ * Marks a check of {@link AllUrlsConcurrentExtension} which needs the {@link BrowserProfile#FULL} browser profile,
+ * e.g. as it reads elements rendered by scripts. The other checks run with {@link BrowserProfile#LEAN}.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface FullBrowserProfile {
+
+}
@@ -0,0 +1,29 @@
+package com.baeldung.common;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Throttles the RestAssured calls by the rate limit of the host, see {@link HostRateLimits}. Added to each request, like:
+ * <br/>
+ * RestAssured.given().filter(HostRateLimitFilter.getDefault())
+ */
+public class HostRateLimitFilter implements Filter {
+
+    private static final HostRateLimitFilter DEFAULT = new HostRateLimitFilter();
+
+    public static HostRateLimitFilter getDefault() {
+        return DEFAULT;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        HostRateLimits.getDefault()
+            .acquire(requestSpec.getURI());
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+}
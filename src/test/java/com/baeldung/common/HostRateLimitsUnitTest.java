@@ -0,0 +1,71 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+public class HostRateLimitsUnitTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void givenABurst_whenReserving_thenTheBurstIsFreeAndTheRestIsSpacedOut() {
+        final HostRateLimits.TokenBucket bucket = new HostRateLimits.TokenBucket(2, 2, clock::get);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(500 * MILLIS, bucket.reserve());
+        assertEquals(1000 * MILLIS, bucket.reserve());
+    }
+
+    @Test
+    void givenAnIdleBucket_whenReserving_thenTokensAreRefilledUpToTheBurst() {
+        final HostRateLimits.TokenBucket bucket = new HostRateLimits.TokenBucket(2, 2, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        clock.addAndGet(10_000 * MILLIS);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(500 * MILLIS, bucket.reserve());
+    }
+
+    @Test
+    void givenLimitsPerDomain_whenLookingUpHosts_thenSubdomainsShareTheLimitAndOtherHostsAreUnlimited() {
+        final HostRateLimits limits = new HostRateLimits(ImmutableMap.of("baeldung.com", "1", "github.com", "1:3"), clock::get);
+
+        assertSame(limits.bucketFor("www.baeldung.com"), limits.bucketFor("baeldung.com"));
+        assertNotSame(limits.bucketFor("github.com"), limits.bucketFor("raw.githubusercontent.com"));
+
+        final HostRateLimits.TokenBucket unlimited = limits.bucketFor("example.com");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, unlimited.reserve());
+        }
+    }
+
+    @Test
+    void givenSystemProperties_whenReadingTheLimits_thenTheDefaultsAreOverridden() {
+        final Properties properties = new Properties();
+        properties.setProperty("rate.limit.github.com", "5:10");
+        properties.setProperty("rate.limit.example.com", "1");
+
+        final Map<String, String> limits = HostRateLimits.fromProperties(properties);
+
+        assertEquals("5:10", limits.get("github.com"));
+        assertEquals("1", limits.get("example.com"));
+        assertEquals(HostRateLimits.DEFAULT_LIMITS.get("baeldung.com"), limits.get("baeldung.com"));
+    }
+
+}
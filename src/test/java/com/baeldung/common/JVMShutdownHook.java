@@ -1,11 +1,19 @@
 package com.baeldung.common;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import com.baeldung.common.GlobalConstants.TestMetricTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ch.qos.logback.classic.LoggerContext;
+
 public class JVMShutdownHook {
     private static Logger logger = LoggerFactory.getLogger(JVMShutdownHook.class);
+    // run by the hook in the order they're added, before the logging is stopped
+    private static final List<Runnable> shutdownTasks = new CopyOnWriteArrayList<>();
     static {
         Thread hook = new Thread(() -> {
 
@@ -15,7 +23,37 @@ public class JVMShutdownHook {
                     BaseTest.getFailedTestsNames()
             );
             logger.info(summary);
+
+            if (!TimingMetrics.isEmpty()) {
+                logger.info(TimingMetrics.summarize());
+                try {
+                    TimingMetrics.export(TimingMetrics.getReportFile());
+                } catch (IOException e) {
+                    logger.error("Couldn't export the timing report", e);
+                }
+            }
+
+            for (Runnable task : shutdownTasks) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error("Shutdown task failed", e);
+                }
+            }
+
+            // logging is asynchronous, drain the queued events before the JVM exits
+            if (LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext) {
+                loggerContext.stop();
+            }
         });
         Runtime.getRuntime().addShutdownHook(hook);
     }
+
+    /**
+     * Runs the task on shutdown from the same hook as the execution summary, the order of separate JVM hooks isn't defined,
+     * so the logging could be stopped before the task logs.
+     */
+    static void addShutdownTask(Runnable task) {
+        shutdownTasks.add(task);
+    }
 }
@@ -0,0 +1,107 @@
+package com.baeldung.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, like HdrHistogram: each power of two is split into 32 buckets,
+ * so percentiles are accurate within ~3%. Values are recorded in microseconds up to ~19 hours.
+ */
+@ThreadSafe
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 30;
+    private static final long MAX_VALUE = ((long) SUB_BUCKET_COUNT << (MAX_SHIFT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SUB_BUCKET_COUNT * (MAX_SHIFT + 2));
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long duration, TimeUnit unit) {
+        final long micros = Math.min(Math.max(unit.toMicros(duration), 0), MAX_VALUE);
+        counts.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT * (shift + 1) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * @return the highest value which is counted in the same bucket
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    public double getMeanMicros() {
+        final long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * @param percentile like: 99.0
+     */
+    public long getValueAtPercentile(double percentile) {
+        final long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    /**
+     * @return count, mean, percentiles and max in milliseconds, to be exported as json
+     */
+    public Map<String, Object> toMap() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", getCount());
+        map.put("meanMillis", toMillis(getMeanMicros()));
+        map.put("p50Millis", toMillis(getValueAtPercentile(50)));
+        map.put("p90Millis", toMillis(getValueAtPercentile(90)));
+        map.put("p99Millis", toMillis(getValueAtPercentile(99)));
+        map.put("maxMillis", toMillis(getMaxMicros()));
+        return map;
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros / 10) / 100.0;
+    }
+
+}
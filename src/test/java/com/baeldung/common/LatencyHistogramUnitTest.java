@@ -0,0 +1,37 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramUnitTest {
+
+    @Test
+    void givenBucketIndexes_whenMappingValues_thenEveryValueFallsIntoTheBucketEndingAtOrAfterIt() {
+        for (long value : new long[] { 0, 1, 31, 32, 33, 63, 64, 65, 1000, 123_456, 1L << 35 }) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value, "value " + value);
+            assertTrue(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value, "value " + value);
+        }
+    }
+
+    @Test
+    void givenRecordedLatencies_whenGettingPercentiles_thenValuesAreWithinBucketPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 1000)
+            .parallel()
+            .forEach(millis -> histogram.record(millis, TimeUnit.MILLISECONDS));
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxMicros());
+        assertEquals(500_500, histogram.getMeanMicros(), 0.001);
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 * 0.04);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 * 0.04);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+}
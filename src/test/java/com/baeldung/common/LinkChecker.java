@@ -0,0 +1,206 @@
+package com.baeldung.common;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies the links harvested from all the pages of a run, each unique link once, and maps the broken ones back to the pages linking to them.
+ * <br/>
+ * The links are verified in the background with asynchronous HEAD requests, GET if HEAD fails, throttled by {@link HostRateLimits}.
+ * Each link is claimed atomically by its first page and its verification is kept for the whole run, so no link is fetched twice.
+ */
+@ThreadSafe
+public class LinkChecker implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinkChecker.class);
+
+    static final int CONNECTION_FAILED = 0;
+
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(20);
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; blogwatch link checker)";
+
+    @FunctionalInterface
+    interface StatusFetcher {
+
+        CompletableFuture<Integer> fetch(String url);
+
+    }
+
+    public record BrokenLink(String link, int status, Set<String> pages) {
+    }
+
+    private final StatusFetcher fetcher;
+    private final HostRateLimits rateLimits;
+    // blocks on the rate limits, the requests are sent asynchronously
+    private final ExecutorService dispatcher;
+    private final Semaphore inFlight;
+
+    // all the links harvested in the run, never cleared so the first page claims the verification of a link for good
+    private final Map<String, CompletableFuture<Integer>> statuses = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> pagesOfBrokenLinks = new ConcurrentHashMap<>();
+    private final AtomicLong pendingReferences = new AtomicLong();
+    private final LongAdder verifications = new LongAdder();
+
+    public LinkChecker(int concurrency) {
+        this(httpStatusFetcher(), HostRateLimits.getDefault(), concurrency);
+    }
+
+    LinkChecker(StatusFetcher fetcher, HostRateLimits rateLimits, int concurrency) {
+        this.fetcher = fetcher;
+        this.rateLimits = rateLimits;
+        this.dispatcher = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "link-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.inFlight = new Semaphore(concurrency * IN_FLIGHT_PER_THREAD);
+    }
+
+    /**
+     * Takes the links of a page, the ones not seen yet in the run are verified in the background.
+     *
+     * @param links absolute urls, the ones other than http(s) are ignored
+     */
+    public void harvest(String page, Collection<String> links) {
+        for (String link : links) {
+            final String target = normalize(link);
+            if (target == null) {
+                continue;
+            }
+            pendingReferences.incrementAndGet();
+            final CompletableFuture<Integer> created = new CompletableFuture<>();
+            final CompletableFuture<Integer> verification = statuses.computeIfAbsent(target, key -> created);
+            if (verification == created) {
+                verify(target, created);
+            }
+            verification.whenComplete((status, error) -> {
+                try {
+                    if (isBroken(status)) {
+                        pagesOfBrokenLinks.computeIfAbsent(target, key -> ConcurrentHashMap.newKeySet())
+                            .add(page);
+                    }
+                } finally {
+                    if (pendingReferences.decrementAndGet() == 0) {
+                        synchronized (this) {
+                            notifyAll();
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    private void verify(String link, CompletableFuture<Integer> result) {
+        verifications.increment();
+        CompletableFuture.supplyAsync(() -> {
+            inFlight.acquireUninterruptibly();
+            rateLimits.acquire(link);
+            return link;
+        }, dispatcher)
+            .thenCompose(fetcher::fetch)
+            .handle((status, error) -> {
+                inFlight.release();
+                if (error != null) {
+                    logger.debug("Couldn't verify {}: {}", link, error.getMessage());
+                    return CONNECTION_FAILED;
+                }
+                return status;
+            })
+            .thenAccept(result::complete);
+    }
+
+    /**
+     * Waits until the links harvested so far are verified.
+     *
+     * @return the broken links ordered by link, with the pages linking to them
+     */
+    public synchronized List<BrokenLink> awaitBrokenLinks() {
+        try {
+            while (pendingReferences.get() > 0) {
+                wait(TimeUnit.SECONDS.toMillis(1));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+        final List<BrokenLink> brokenLinks = new ArrayList<>();
+        pagesOfBrokenLinks.forEach((link, pages) -> brokenLinks.add(new BrokenLink(link, statuses.get(link)
+            .join(), new TreeSet<>(pages))));
+        brokenLinks.sort(Comparator.comparing(BrokenLink::link));
+        logger.info(ConsoleColors.magentaColordMessage("Verified {} unique links, {} broken"), verifications.sum(), brokenLinks.size());
+        return brokenLinks;
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * 429 means the host throttled the checker, not that the link is broken.
+     */
+    static boolean isBroken(Integer status) {
+        return status == null || status == CONNECTION_FAILED || (status >= 400 && status != 429);
+    }
+
+    /**
+     * @return the link without the fragment, or null if it's not a http(s) link
+     */
+    static String normalize(String link) {
+        if (StringUtils.isBlank(link)) {
+            return null;
+        }
+        final String target = StringUtils.substringBefore(link.trim(), "#");
+        return StringUtils.startsWithAny(target.toLowerCase(), "http://", "https://") ? target : null;
+    }
+
+    private static StatusFetcher httpStatusFetcher() {
+        final HttpClient client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+        return url -> client.sendAsync(request(url, "HEAD"), BodyHandlers.discarding())
+            .thenCompose(response -> response.statusCode() < 400 ? CompletableFuture.completedFuture(response.statusCode())
+                // some servers don't support HEAD
+                : client.sendAsync(request(url, "GET"), BodyHandlers.discarding())
+                    .thenApply(HttpResponse::statusCode));
+    }
+
+    private static HttpRequest request(String url, String method) {
+        return HttpRequest.newBuilder(URI.create(url))
+            .method(method, BodyPublishers.noBody())
+            .timeout(REQUEST_TIMEOUT)
+            .header("User-Agent", USER_AGENT)
+            .build();
+    }
+
+}
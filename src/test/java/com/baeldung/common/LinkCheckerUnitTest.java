@@ -0,0 +1,62 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class LinkCheckerUnitTest {
+
+    private static final String OK_LINK = "https://docs.oracle.com/en/java/javase/17/docs/api/java.base/java/util/List.html";
+    private static final String BROKEN_LINK = "https://www.baeldung.com/wp-content/uploads/missing.png";
+
+    private final FetchCounter fetches = new FetchCounter();
+
+    @Test
+    void givenTheSameLinkOnSeveralPages_whenHarvesting_thenItIsVerifiedOnceAndMappedToAllThePages() {
+        try (LinkChecker checker = newChecker()) {
+            checker.harvest("https://www.baeldung.com/java-streams", List.of(OK_LINK, BROKEN_LINK, "mailto:contact@baeldung.com"));
+            checker.harvest("https://www.baeldung.com/java-collections", List.of(OK_LINK + "#method-summary", BROKEN_LINK));
+
+            final List<LinkChecker.BrokenLink> brokenLinks = checker.awaitBrokenLinks();
+
+            assertEquals(List.of(new LinkChecker.BrokenLink(BROKEN_LINK, 404, Set.of("https://www.baeldung.com/java-collections", "https://www.baeldung.com/java-streams"))),
+                brokenLinks);
+            assertEquals(1, fetches.get(OK_LINK));
+            assertEquals(1, fetches.get(BROKEN_LINK));
+        }
+    }
+
+    @Test
+    void givenAVerifiedLink_whenHarvestingItAgain_thenItIsNotFetchedAgain() {
+        try (LinkChecker checker = newChecker()) {
+            checker.harvest("https://www.baeldung.com/java-streams", List.of(OK_LINK));
+            checker.awaitBrokenLinks();
+
+            checker.harvest("https://www.baeldung.com/java-collections", List.of(OK_LINK));
+
+            assertEquals(List.of(), checker.awaitBrokenLinks());
+            assertEquals(1, fetches.get(OK_LINK));
+        }
+    }
+
+    @Test
+    void givenStatuses_whenCheckingIfBroken_thenThrottlingIsNotABrokenLink() {
+        assertEquals(List.of(false, false, true, true, false), List.of(200, 301, 404, LinkChecker.CONNECTION_FAILED, 429)
+            .stream()
+            .map(LinkChecker::isBroken)
+            .toList());
+    }
+
+    private LinkChecker newChecker() {
+        return new LinkChecker(url -> {
+            fetches.record(url);
+            return CompletableFuture.completedFuture(url.equals(BROKEN_LINK) ? 404 : 200);
+        }, new HostRateLimits(Map.of(), System::nanoTime), 2);
+    }
+
+}
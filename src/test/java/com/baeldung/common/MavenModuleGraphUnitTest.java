@@ -0,0 +1,58 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.baeldung.common.vo.MavenProjectVO;
+
+public class MavenModuleGraphUnitTest {
+
+    private static MavenProjectVO module(String artifactId, String directory, String... childModules) {
+        MavenProjectVO project = new MavenProjectVO("com.baeldung", artifactId, "1.0", "/repo/" + directory + "/pom.xml");
+        project.setChildModules(List.of(childModules));
+        return project;
+    }
+
+    @Test
+    void givenModulesWithDirectoryAndArtifactIdMismatch_whenBuildingGraph_thenChildrenAreResolvedByPath() {
+        MavenProjectVO parent = module("core-java-modules", "core-java-modules", "core-java", "core-java-lang");
+        MavenProjectVO child1 = module("core-java", "core-java-modules/core-java");
+        // directory name doesn't match the artifactId
+        MavenProjectVO child2 = module("core-java-lang-1", "core-java-modules/core-java-lang");
+
+        MavenModuleGraph graph = new MavenModuleGraph("/repo", List.of(parent, child1, child2));
+
+        assertEquals(2, parent.getChildren().size());
+        assertSame(parent, child1.getParent());
+        assertSame(parent, child2.getParent());
+        assertSame(child2, graph.findModule("core-java-modules/core-java-lang"));
+    }
+
+    @Test
+    void givenProfiles_whenMarkingBuiltModules_thenWholeHierarchyIsMarkedOnlyForItsProfile() {
+        MavenProjectVO parent = module("parent-modules", "parent-modules", "child");
+        MavenProjectVO child = module("child", "parent-modules/child", "grandchild");
+        MavenProjectVO grandChild = module("grandchild", "parent-modules/child/grandchild");
+        MavenProjectVO orphan = module("orphan", "orphan");
+
+        MavenModuleGraph graph = new MavenModuleGraph("/repo", List.of(parent, child, grandChild, orphan));
+        graph.markBuiltInDefaultProfile(Map.of("default-first", List.of("parent-modules")));
+        graph.markBuiltInIntegrationProfile(Map.of("integration-first", List.of("orphan", "unknown-module")));
+
+        assertTrue(parent.isBuildInDefaultProfile());
+        assertTrue(child.isBuildInDefaultProfile());
+        assertTrue(grandChild.isBuildInDefaultProfile());
+        assertFalse(orphan.isBuildInDefaultProfile());
+
+        assertTrue(orphan.isBuildInIntegrationProfile());
+        assertFalse(grandChild.isBuildInIntegrationProfile());
+    }
+
+}
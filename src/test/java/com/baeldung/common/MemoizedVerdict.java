@@ -0,0 +1,27 @@
+package com.baeldung.common;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a check of {@link AllUrlsConcurrentExtension} whose verdict on a url is reused while the content it reads doesn't change,
+ * see {@link VerdictStore}.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface MemoizedVerdict {
+
+    /**
+     * XPath of the elements the check reads, the wp tags of the page are always part of the content.
+     */
+    String region();
+
+    /**
+     * To be increased when the logic of the check changes, so the recorded verdicts aren't reused.
+     */
+    int version() default 1;
+
+}
@@ -0,0 +1,56 @@
+package com.baeldung.common;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ForwardingListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Collects the results of concurrent workers without a shared lock: each thread puts into its own buffer,
+ * and the buffers are merged on the first read. Meant to be read only after the workers are done, like in an @AfterEach.
+ */
+public class PerThreadMultimap<K, V> extends ForwardingListMultimap<K, V> {
+
+    private final ListMultimap<K, V> merged = ArrayListMultimap.create();
+    private final Queue<ListMultimap<K, V>> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ListMultimap<K, V>> buffer = ThreadLocal.withInitial(() -> {
+        final ListMultimap<K, V> threadBuffer = ArrayListMultimap.create();
+        buffers.add(threadBuffer);
+        return threadBuffer;
+    });
+
+    public static <K, V> PerThreadMultimap<K, V> create() {
+        return new PerThreadMultimap<>();
+    }
+
+    @Override
+    protected synchronized ListMultimap<K, V> delegate() {
+        for (ListMultimap<K, V> threadBuffer : buffers) {
+            merged.putAll(threadBuffer);
+            threadBuffer.clear();
+        }
+        return merged;
+    }
+
+    @Override
+    public boolean put(K key, V value) {
+        return buffer.get()
+            .put(key, value);
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values) {
+        return buffer.get()
+            .putAll(key, values);
+    }
+
+    @Override
+    public boolean putAll(Multimap<? extends K, ? extends V> multimap) {
+        return buffer.get()
+            .putAll(multimap);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Multimap;
+
+public class PerThreadMultimapUnitTest {
+
+    @Test
+    void givenConcurrentWorkers_whenReadingAfterTheyAreDone_thenAllValuesAreMerged() throws InterruptedException {
+        final Multimap<String, String> badURLs = PerThreadMultimap.create();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            final String key = i % 2 == 0 ? "even" : "odd";
+            final String url = "/article-" + i;
+            executor.execute(() -> badURLs.put(key, url));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(1000, badURLs.size());
+        assertEquals(500, badURLs.get("even")
+            .size());
+
+        // values put after a read are merged on the next read
+        badURLs.put("odd", "/late-article");
+        assertEquals(501, badURLs.get("odd")
+            .size());
+    }
+
+}
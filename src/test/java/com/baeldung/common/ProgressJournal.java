@@ -0,0 +1,364 @@
+package com.baeldung.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.GlobalConstants.TestMetricTypes;
+import com.google.common.collect.ForwardingMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Append-only journal of the all urls tests, to resume a run after a crash. Enabled via: -Dprogress.journal=target/progress-journal.log
+ * <br/>
+ * The records of a url, like executions, failures and bad urls, are kept per thread from {@link #begin()} until the test is done with the url.
+ * Then they're appended at once together with a processed marker, so a url interrupted in the middle is simply tested again.
+ * Records outside of a url, like the ones of a test's @AfterEach, aren't journaled, they're made again when the test resumes.
+ * The link targets a url hands to the {@link LinkChecker} are journaled with it, so the broken links of the skipped urls are still reported.
+ * Appends go through a buffer which is written to the file channel when it's full, every second, and after each test.
+ * <br/>
+ * When the journal already exists, it's replayed first: the {@link BaseTest} counters are restored,
+ * the bad urls and link targets are handed back to their tests, and the processed urls are skipped. Delete the file to start a fresh run.
+ */
+@ThreadSafe
+public class ProgressJournal implements Closeable, RecordListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressJournal.class);
+
+    private static final String EXECUTION = "E";
+    private static final String FAILURE = "F";
+    private static final String METRICS = "M";
+    private static final String BAD_URL = "B";
+    private static final String GITHUB_STATUS = "G";
+    private static final String LINKS = "L";
+    private static final String PROCESSED = "P";
+
+    private static final char SEPARATOR = '\t';
+    private static final char NEW_LINE = '\n';
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    private static volatile ProgressJournal current;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long lastFlush = System.currentTimeMillis();
+
+    // set while the current thread is on a url
+    private final ThreadLocal<StringBuilder> pending = new ThreadLocal<>();
+    private final Set<String> processed = ConcurrentHashMap.newKeySet();
+    private final Map<String, List<String[]>> recoveredResults = new ConcurrentHashMap<>();
+
+    ProgressJournal(Path file) throws IOException {
+        long length = 0;
+        if (Files.exists(file)) {
+            length = replay(file);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        // drops a partially written last line
+        channel.truncate(length);
+    }
+
+    /**
+     * Opens the journal set via the system property once per JVM.
+     *
+     * @return the journal or null if not enabled
+     */
+    public static synchronized ProgressJournal getInstance() {
+        final String file = System.getProperty(GlobalConstants.ENV_PROPERTY_PROGRESS_JOURNAL);
+        if (current == null && file != null && !file.isBlank()) {
+            try {
+                final ProgressJournal journal = new ProgressJournal(Paths.get(file));
+                JVMShutdownHook.addShutdownTask(journal::closeQuietly);
+                // after the replay, the replayed records are in the journal already
+                BaseTest.addRecordListener(journal);
+                current = journal;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return current;
+    }
+
+    private long replay(Path file) throws IOException {
+        final byte[] content = Files.readAllBytes(file);
+        int length = content.length;
+        while (length > 0 && content[length - 1] != NEW_LINE) {
+            length--;
+        }
+        final List<String[]> group = new ArrayList<>();
+        for (String line : new String(content, 0, length, StandardCharsets.UTF_8).split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            final String[] record = line.split(String.valueOf(SEPARATOR), -1);
+            for (int i = 1; i < record.length; i++) {
+                record[i] = unescape(record[i]);
+            }
+            if (PROCESSED.equals(record[0])) {
+                apply(record[1], group);
+                processed.add(key(record[1], record[2]));
+                group.clear();
+            } else {
+                group.add(record);
+            }
+        }
+        logger.info(ConsoleColors.magentaColordMessage("Resuming from {}: {} urls already processed"), file, processed.size());
+        return length;
+    }
+
+    private void apply(String testName, List<String[]> records) {
+        for (String[] record : records) {
+            switch (record[0]) {
+            case EXECUTION -> BaseTest.recordExecution(record[1]);
+            case FAILURE -> BaseTest.recordFailure(record[1], Integer.parseInt(record[2]));
+            case METRICS -> BaseTest.recordMetrics(Integer.parseInt(record[1]), TestMetricTypes.FAILED);
+            case BAD_URL, GITHUB_STATUS, LINKS -> recoveredResults.computeIfAbsent(testName, key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(record);
+            default -> logger.warn("Unknown journal record: {}", record[0]);
+            }
+        }
+    }
+
+    public boolean isProcessed(String testName, String url) {
+        return processed.contains(key(testName, url));
+    }
+
+    /**
+     * Puts the results recovered from the journal back into the results of the test.
+     */
+    public void restoreResults(String testName, Multimap<String, String> badURLs, Multimap<Integer, String> resultsForGitHubHttpStatusTest) {
+        for (String[] record : recoveredResults.getOrDefault(testName, Collections.emptyList())) {
+            if (BAD_URL.equals(record[0])) {
+                badURLs.put(record[1], record[2]);
+            } else if (GITHUB_STATUS.equals(record[0])) {
+                resultsForGitHubHttpStatusTest.put(Integer.valueOf(record[1]), record[2]);
+            }
+        }
+    }
+
+    /**
+     * Hands the link targets recovered from the journal back to the test, per page, like to {@link LinkChecker#harvest(String, Collection)}.
+     */
+    public void restoreLinks(String testName, BiConsumer<String, Collection<String>> links) {
+        for (String[] record : recoveredResults.getOrDefault(testName, Collections.emptyList())) {
+            if (LINKS.equals(record[0])) {
+                links.accept(record[1], Arrays.asList(record)
+                    .subList(2, record.length));
+            }
+        }
+    }
+
+    @Override
+    public void recordExecution(String name) {
+        append(EXECUTION, name);
+    }
+
+    @Override
+    public void recordFailure(String name, int count) {
+        append(FAILURE, name, String.valueOf(count));
+    }
+
+    @Override
+    public void recordMetrics(int count) {
+        append(METRICS, String.valueOf(count));
+    }
+
+    /**
+     * Journals the link targets found on a page, with the url the current thread is on.
+     */
+    public void recordLinks(String page, Collection<String> links) {
+        final List<String> values = new ArrayList<>(links.size() + 1);
+        values.add(page);
+        values.addAll(links);
+        append(LINKS, values.toArray(new String[0]));
+    }
+
+    public Multimap<String, String> journalBadURLs(Multimap<String, String> badURLs) {
+        return new JournaledMultimap<>(badURLs, (test, result) -> append(BAD_URL, test, result));
+    }
+
+    public Multimap<Integer, String> journalGitHubStatus(Multimap<Integer, String> resultsForGitHubHttpStatusTest) {
+        return new JournaledMultimap<>(resultsForGitHubHttpStatusTest, (status, result) -> append(GITHUB_STATUS, String.valueOf(status), result));
+    }
+
+    private void append(String type, String... values) {
+        final StringBuilder records = pending.get();
+        if (records == null) {
+            return;
+        }
+        records.append(type);
+        for (String value : values) {
+            records.append(SEPARATOR)
+                .append(escape(value));
+        }
+        records.append(NEW_LINE);
+    }
+
+    /**
+     * Starts keeping what the current thread records for a url, until {@link #commit} or {@link #discard()}.
+     * The records of a previous url which was neither committed nor discarded are dropped.
+     */
+    public void begin() {
+        pending.set(new StringBuilder());
+    }
+
+    /**
+     * Drops what the current thread recorded since {@link #begin()}, like when the url is tested again later.
+     */
+    public void discard() {
+        pending.remove();
+    }
+
+    /**
+     * Appends the records of the current thread since {@link #begin()} with the processed marker of the url.
+     */
+    public void commit(String testName, String url) {
+        if (pending.get() == null) {
+            begin();
+        }
+        append(PROCESSED, testName, url);
+        final byte[] bytes = pending.get()
+            .toString()
+            .getBytes(StandardCharsets.UTF_8);
+        pending.remove();
+        processed.add(key(testName, url));
+        synchronized (this) {
+            try {
+                if (bytes.length > buffer.remaining()) {
+                    writeBuffer();
+                }
+                if (bytes.length > buffer.capacity()) {
+                    channel.write(ByteBuffer.wrap(bytes));
+                } else {
+                    buffer.put(bytes);
+                }
+                if (System.currentTimeMillis() - lastFlush > FLUSH_INTERVAL_MILLIS) {
+                    writeBuffer();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public synchronized void flush() throws IOException {
+        writeBuffer();
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        lastFlush = System.currentTimeMillis();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            writeBuffer();
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            logger.error("Couldn't close the progress journal", e);
+        }
+    }
+
+    private static String key(String testName, String url) {
+        return testName + SEPARATOR + url;
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\")
+            .replace("\t", "\\t")
+            .replace("\n", "\\n")
+            .replace("\r", "\\r");
+    }
+
+    static String unescape(String value) {
+        final StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                c = value.charAt(++i);
+                c = switch (c) {
+                case 't' -> '\t';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                default -> c;
+                };
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Journals every value put into the results of a test, also used by {@link VerdictStore} to capture them.
+     */
+    static class JournaledMultimap<K, V> extends ForwardingMultimap<K, V> {
+
+        private final Multimap<K, V> delegate;
+        private final BiConsumer<K, V> journal;
+
+        JournaledMultimap(Multimap<K, V> delegate, BiConsumer<K, V> journal) {
+            this.delegate = delegate;
+            this.journal = journal;
+        }
+
+        @Override
+        protected Multimap<K, V> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public boolean put(K key, V value) {
+            journal.accept(key, value);
+            return delegate.put(key, value);
+        }
+
+        @Override
+        public boolean putAll(K key, Iterable<? extends V> values) {
+            values.forEach(value -> journal.accept(key, value));
+            return delegate.putAll(key, values);
+        }
+
+        @Override
+        public boolean putAll(Multimap<? extends K, ? extends V> multimap) {
+            multimap.entries()
+                .forEach(entry -> journal.accept(entry.getKey(), entry.getValue()));
+            return delegate.putAll(multimap);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+
+public class ProgressJournalUnitTest {
+
+    private static final String TEST_NAME = "givenAllArticles_whenJournaling_thenResumable";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenCommittedAndInterruptedUrls_whenReopening_thenOnlyCommittedUrlsAreRestored() throws IOException {
+        final Path file = tempDir.resolve("progress-journal.log");
+        try (ProgressJournal journal = new ProgressJournal(file)) {
+            final Multimap<String, String> badURLs = journal.journalBadURLs(ArrayListMultimap.create());
+            journal.begin();
+            journal.recordExecution(TEST_NAME);
+            badURLs.put(TEST_NAME, "https://www.baeldung.com/java-streams\n( broken\tlink )");
+            journal.commit(TEST_NAME, "https://www.baeldung.com/java-streams");
+
+            // interrupted before the url is processed
+            journal.begin();
+            journal.recordExecution(TEST_NAME);
+            badURLs.put(TEST_NAME, "https://www.baeldung.com/java-inner-interfaces");
+        }
+        // partially written record of a crash
+        Files.write(file, "P\tgivenAll".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (ProgressJournal journal = new ProgressJournal(file)) {
+            assertTrue(journal.isProcessed(TEST_NAME, "https://www.baeldung.com/java-streams"));
+            assertFalse(journal.isProcessed(TEST_NAME, "https://www.baeldung.com/java-inner-interfaces"));
+
+            final Multimap<String, String> badURLs = ArrayListMultimap.create();
+            final Multimap<Integer, String> resultsForGitHubHttpStatusTest = ArrayListMultimap.create();
+            journal.restoreResults(TEST_NAME, badURLs, resultsForGitHubHttpStatusTest);
+            assertEquals(List.of("https://www.baeldung.com/java-streams\n( broken\tlink )"), badURLs.get(TEST_NAME));
+            assertTrue(resultsForGitHubHttpStatusTest.isEmpty());
+            assertEquals(1, BaseTest.getExecutedTestsNames()
+                .get(TEST_NAME));
+        }
+        assertTrue(Files.readString(file)
+            .endsWith("\n"));
+    }
+
+    @Test
+    void givenRecordsOutsideOfAUrl_whenCommittingTheNextUrl_thenTheyAreNotJournaledWithIt() throws IOException {
+        final Path file = tempDir.resolve("progress-journal.log");
+        try (ProgressJournal journal = new ProgressJournal(file)) {
+            final Multimap<String, String> badURLs = journal.journalBadURLs(ArrayListMultimap.create());
+            // like the broken links reported in @AfterEach
+            badURLs.put(TEST_NAME, "https://www.baeldung.com/java-streams --> https://www.baeldung.com/missing (404)");
+            journal.recordFailure(TEST_NAME, 1);
+            // like a url which failed before it was processed
+            journal.begin();
+            badURLs.put(TEST_NAME, "https://www.baeldung.com/java-inner-interfaces");
+
+            journal.begin();
+            journal.recordExecution(TEST_NAME);
+            journal.commit(TEST_NAME, "https://www.baeldung.com/java-collections");
+        }
+
+        assertEquals(List.of("E\t" + TEST_NAME, "P\t" + TEST_NAME + "\thttps://www.baeldung.com/java-collections"), Files.readAllLines(file));
+    }
+
+    @Test
+    void givenTheLinksOfACommittedUrl_whenReopening_thenTheyAreHandedBackForTheirPage() throws IOException {
+        final Path file = tempDir.resolve("progress-journal.log");
+        try (ProgressJournal journal = new ProgressJournal(file)) {
+            journal.begin();
+            journal.recordLinks("https://www.baeldung.com/java-streams", List.of("https://www.baeldung.com/java-8-streams", "https://github.com/eugenp/tutorials"));
+            journal.commit(TEST_NAME, "https://www.baeldung.com/java-streams");
+
+            // interrupted before the url is processed
+            journal.begin();
+            journal.recordLinks("https://www.baeldung.com/java-inner-interfaces", List.of("https://www.baeldung.com/java-interfaces"));
+        }
+
+        try (ProgressJournal journal = new ProgressJournal(file)) {
+            final Multimap<String, String> links = ArrayListMultimap.create();
+            journal.restoreLinks(TEST_NAME, links::putAll);
+            assertEquals(List.of("https://www.baeldung.com/java-8-streams", "https://github.com/eugenp/tutorials"), links.get("https://www.baeldung.com/java-streams"));
+            assertEquals(1, links.keySet()
+                .size());
+
+            final Multimap<String, String> badURLs = ArrayListMultimap.create();
+            final Multimap<Integer, String> resultsForGitHubHttpStatusTest = ArrayListMultimap.create();
+            journal.restoreResults(TEST_NAME, badURLs, resultsForGitHubHttpStatusTest);
+            assertTrue(badURLs.isEmpty());
+            assertTrue(resultsForGitHubHttpStatusTest.isEmpty());
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.baeldung.common;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically logs the progress of a concurrent test: urls done out of total, throughput over a sliding window, ETA,
+ * open browser sessions and failure rate. The interval can be set via -Dprogress.interval.seconds=60
+ * <br/>
+ * All reporters share a single daemon thread, the workers are only read, never blocked.
+ */
+public class ProgressReporter implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressReporter.class);
+
+    private static final int WINDOW_SIZE = 5;
+    private static final long INTERVAL_SECONDS = Long.parseLong(System.getProperty(GlobalConstants.ENV_PROPERTY_PROGRESS_INTERVAL, "60"));
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "progress-reporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final AtomicInteger browserSessions = new AtomicInteger();
+
+    private final String testName;
+    private final IntSupplier done;
+    private final int total;
+    private final IntSupplier failures;
+    private final int failuresAtStart;
+    private final long startTime = System.nanoTime();
+
+    // samples of (time, done), only accessed by the scheduler thread
+    private final Deque<long[]> window = new ArrayDeque<>();
+    private ScheduledFuture<?> task;
+
+    /**
+     * @param done number of urls taken by the workers
+     * @param total number of urls or -1 if unknown
+     * @param failures total failure count, see {@link BaseTest#getMetrics(GlobalConstants.TestMetricTypes)}
+     */
+    public ProgressReporter(String testName, IntSupplier done, int total, IntSupplier failures) {
+        this.testName = testName;
+        this.done = done;
+        this.total = total;
+        this.failures = failures;
+        this.failuresAtStart = failures.getAsInt();
+    }
+
+    public static void browserSessionOpened() {
+        browserSessions.incrementAndGet();
+    }
+
+    public static void browserSessionClosed() {
+        browserSessions.decrementAndGet();
+    }
+
+    public ProgressReporter start() {
+        window.add(new long[] { startTime, 0 });
+        task = scheduler.scheduleAtFixedRate(this::report, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+        return this;
+    }
+
+    private void report() {
+        final long now = System.nanoTime();
+        final int doneCount = done.getAsInt();
+        final long[] oldest = window.peekFirst();
+        window.addLast(new long[] { now, doneCount });
+        if (window.size() > WINDOW_SIZE) {
+            window.removeFirst();
+        }
+        final double seconds = (now - oldest[0]) / 1_000_000_000.0;
+        final double rate = seconds > 0 ? (doneCount - oldest[1]) / seconds : 0;
+        final int failureCount = failures.getAsInt() - failuresAtStart;
+        final double failureRate = doneCount == 0 ? 0 : 100.0 * failureCount / doneCount;
+
+        logger.info(ConsoleColors.cyanMessage("Progress of {}: {}/{} urls{}, {} urls/sec, ETA {}, {} browser sessions, {} failures ({}%)"), testName, doneCount,
+            total < 0 ? "?" : total, total > 0 ? String.format(" (%.1f%%)", 100.0 * doneCount / total) : "", String.format("%.2f", rate), eta(doneCount, rate),
+            browserSessions.get(), failureCount, String.format("%.1f", failureRate));
+    }
+
+    private String eta(int doneCount, double rate) {
+        if (total < 0 || rate <= 0) {
+            return "unknown";
+        }
+        final Duration eta = Duration.ofSeconds((long) (Math.max(total - doneCount, 0) / rate));
+        return String.format("%d:%02d:%02d", eta.toHours(), eta.toMinutesPart(), eta.toSecondsPart());
+    }
+
+    @Override
+    public void close() {
+        if (task != null) {
+            task.cancel(false);
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        logger.info(ConsoleColors.cyanMessage("Finished {}: {} urls in {}"), testName, done.getAsInt(),
+            String.format("%d:%02d:%02d", elapsed.toHours(), elapsed.toMinutesPart(), elapsed.toSecondsPart()));
+    }
+
+}
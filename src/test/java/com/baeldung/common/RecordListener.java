@@ -0,0 +1,16 @@
+package com.baeldung.common;
+
+/**
+ * Gets the records of {@link BaseTest} as they're made, like the stores keeping the records of a url.
+ * <br/>
+ * Registered once with {@link BaseTest#addRecordListener(RecordListener)}, it's called by the thread making the record.
+ */
+public interface RecordListener {
+
+    void recordExecution(String name);
+
+    void recordFailure(String name, int count);
+
+    void recordMetrics(int count);
+
+}
@@ -1,16 +1,29 @@
 package com.baeldung.common;
 
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 import static com.baeldung.common.GlobalConstants.TestMetricTypes.FAILED;
 
-public class TestMetricsExtension implements AfterTestExecutionCallback {
+public class TestMetricsExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final String START_TIME = "startTime";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        getStore(context).put(START_TIME, System.nanoTime());
+    }
 
     @Override
     public void afterTestExecution(ExtensionContext context) {
         BaseTest.recordExecution(context.getTestMethod().get().getName());
 
+        final Long startTime = getStore(context).remove(START_TIME, Long.class);
+        if (startTime != null) {
+            TimingMetrics.record(context.getTestMethod().get().getName(), null, System.nanoTime() - startTime);
+        }
+
         if (context.getExecutionException().isPresent()) {
             if (!context.getTags().contains(GlobalConstants.TAG_SKIP_METRICS)) {
                 BaseTest.recordMetrics(1, FAILED);
@@ -19,4 +32,8 @@ public class TestMetricsExtension implements AfterTestExecutionCallback {
         }
     }
 
+    private ExtensionContext.Store getStore(ExtensionContext context) {
+        return context.getStore(ExtensionContext.Namespace.create(getClass(), context.getRequiredTestMethod()));
+    }
+
 }
@@ -0,0 +1,163 @@
+package com.baeldung.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Latency histograms of the test phases, per phase, per page type and per worker thread, and the slowest urls.
+ * Phases are: {@link #WAIT} for the next url and the rate limit of its host, {@link #LOAD} the page, {@link #EXTRACT} page details like wp tags,
+ * and run the check of a test, keyed by the test name.
+ * <br/>
+ * Recording is lock-free. The summary is logged by {@link JVMShutdownHook} and exported as json,
+ * to the file set via -Dtiming.report=target/timing-report.json
+ */
+@ThreadSafe
+public class TimingMetrics {
+
+    public static final String WAIT = "wait";
+    public static final String LOAD = "load";
+    public static final String EXTRACT = "extract";
+    public static final String CHECK = "check";
+
+    private static final int SLOWEST_URLS_LIMIT = 20;
+    private static final String SEPARATOR = " | ";
+
+    private static final Map<String, LatencyHistogram> phases = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> pageTypes = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> threads = new ConcurrentHashMap<>();
+
+    private static final NavigableSet<SlowUrl> slowestUrls = new ConcurrentSkipListSet<>();
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private TimingMetrics() {
+    }
+
+    /**
+     * @param phase {@link #WAIT}, {@link #LOAD}, {@link #EXTRACT} or a test name
+     * @param pageType page type or null if not known
+     */
+    public static void record(String phase, Object pageType, long nanos) {
+        histogram(phases, phase).record(nanos, TimeUnit.NANOSECONDS);
+        if (pageType != null) {
+            histogram(pageTypes, phase + SEPARATOR + pageType).record(nanos, TimeUnit.NANOSECONDS);
+        }
+        // per thread only the kind of the phase, to keep the number of histograms low
+        final String kind = WAIT.equals(phase) || LOAD.equals(phase) || EXTRACT.equals(phase) ? phase : CHECK;
+        histogram(threads, Thread.currentThread()
+            .getName() + SEPARATOR + kind).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Keeps the url if it's one of the slowest, the time is the total time spent on the url by a test.
+     */
+    public static void recordUrl(String testName, String url, long nanos) {
+        if (slowestUrls.size() >= SLOWEST_URLS_LIMIT && nanos <= slowestUrls.first().nanos()) {
+            return;
+        }
+        slowestUrls.add(new SlowUrl(nanos, sequence.incrementAndGet(), testName, url));
+        while (slowestUrls.size() > SLOWEST_URLS_LIMIT) {
+            slowestUrls.pollFirst();
+        }
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String key) {
+        final LatencyHistogram histogram = histograms.get(key);
+        return histogram != null ? histogram : histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    public static boolean isEmpty() {
+        return phases.isEmpty();
+    }
+
+    public static String summarize() {
+        final StringBuilder sb = new StringBuilder();
+        final String separator = System.lineSeparator();
+        sb.append(separator);
+        sb.append(ConsoleColors.blueColordMessage("============================================================================")).append(separator);
+        sb.append(ConsoleColors.blueColordMessage("Timing Summary (ms): count | mean | p50 | p90 | p99 | max")).append(separator);
+        sb.append(ConsoleColors.blueColordMessage("============================================================================")).append(separator);
+        new TreeMap<>(phases).forEach((phase, histogram) -> appendHistogram(sb, phase, histogram.toMap()).append(separator));
+        sb.append(separator);
+        sb.append(ConsoleColors.redBoldUnderlined("Slowest Urls: ")).append(separator);
+        slowestUrls.descendingSet()
+            .forEach(slowUrl -> sb.append(TimeUnit.NANOSECONDS.toMillis(slowUrl.nanos()))
+                .append(" ms - ")
+                .append(slowUrl.url())
+                .append(" (")
+                .append(slowUrl.testName())
+                .append(")")
+                .append(separator));
+        sb.append(ConsoleColors.blueColordMessage("=============================End of the Summary===============================")).append(separator);
+        return sb.toString();
+    }
+
+    private static StringBuilder appendHistogram(StringBuilder sb, String name, Map<String, Object> values) {
+        sb.append(ConsoleColors.greenMessage(name)).append(": ");
+        values.values()
+            .forEach(value -> sb.append(value).append(SEPARATOR));
+        sb.setLength(sb.length() - SEPARATOR.length());
+        return sb;
+    }
+
+    public static Map<String, Object> toReport() {
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("phases", toMap(phases));
+        report.put("pageTypes", toMap(pageTypes));
+        report.put("threads", toMap(threads));
+        final List<Map<String, Object>> urls = new ArrayList<>();
+        slowestUrls.descendingSet()
+            .forEach(slowUrl -> {
+                final Map<String, Object> url = new LinkedHashMap<>();
+                url.put("url", slowUrl.url());
+                url.put("test", slowUrl.testName());
+                url.put("millis", TimeUnit.NANOSECONDS.toMillis(slowUrl.nanos()));
+                urls.add(url);
+            });
+        report.put("slowestUrls", urls);
+        return report;
+    }
+
+    private static Map<String, Object> toMap(Map<String, LatencyHistogram> histograms) {
+        final Map<String, Object> map = new TreeMap<>();
+        histograms.forEach((key, histogram) -> map.put(key, histogram.toMap()));
+        return map;
+    }
+
+    public static Path getReportFile() {
+        return Paths.get(System.getProperty(GlobalConstants.ENV_PROPERTY_TIMING_REPORT, GlobalConstants.DEFAULT_TIMING_REPORT));
+    }
+
+    public static void export(Path file) throws IOException {
+        final Path directory = file.toAbsolutePath()
+            .getParent();
+        Files.createDirectories(directory);
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+            .writeValue(file.toFile(), toReport());
+    }
+
+    private record SlowUrl(long nanos, long sequence, String testName, String url) implements Comparable<SlowUrl> {
+
+        @Override
+        public int compareTo(SlowUrl other) {
+            final int result = Long.compare(nanos, other.nanos);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
+}
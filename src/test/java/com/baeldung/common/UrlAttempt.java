@@ -0,0 +1,108 @@
+package com.baeldung.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ForwardingMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Holds back what a worker records while it tries a url, so an attempt failing for a reason other than the check,
+ * see {@link WorkerFailure}, leaves no trace when its url is requeued.
+ * <br/>
+ * The records of the current thread are kept from {@link #begin()} until {@link #commit()} publishes them or {@link #discard()} drops them,
+ * records outside of an attempt, like the ones of a test's @AfterEach, are published at once.
+ * It holds back the {@link BaseTest} counters and the results wrapped by {@link #holdBack(Multimap)},
+ * {@link ProgressJournal} and {@link VerdictStore} keep the records of a url on their own.
+ */
+@ThreadSafe
+public final class UrlAttempt {
+
+    private static final ThreadLocal<List<Runnable>> pending = new ThreadLocal<>();
+
+    private UrlAttempt() {
+    }
+
+    /**
+     * Starts an attempt of the current thread, the records of a previous one which was neither committed nor discarded are dropped.
+     */
+    public static void begin() {
+        pending.set(new ArrayList<>());
+    }
+
+    /**
+     * Publishes the records of the current attempt.
+     */
+    public static void commit() {
+        final List<Runnable> records = pending.get();
+        pending.remove();
+        if (records != null) {
+            records.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Drops the records of the current attempt, like when the url is tried again later.
+     */
+    public static void discard() {
+        pending.remove();
+    }
+
+    static void record(Runnable publish) {
+        final List<Runnable> records = pending.get();
+        if (records == null) {
+            publish.run();
+        } else {
+            records.add(publish);
+        }
+    }
+
+    /**
+     * @return a view of the results whose puts are published with the attempt
+     */
+    public static <K> Multimap<K, String> holdBack(Multimap<K, String> results) {
+        return new HeldBackMultimap<>(results);
+    }
+
+    private static class HeldBackMultimap<K, V> extends ForwardingMultimap<K, V> {
+
+        private final Multimap<K, V> delegate;
+
+        HeldBackMultimap(Multimap<K, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected Multimap<K, V> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public boolean put(K key, V value) {
+            record(() -> delegate.put(key, value));
+            return true;
+        }
+
+        @Override
+        public boolean putAll(K key, Iterable<? extends V> values) {
+            boolean changed = false;
+            for (V value : values) {
+                changed |= put(key, value);
+            }
+            return changed;
+        }
+
+        @Override
+        public boolean putAll(Multimap<? extends K, ? extends V> multimap) {
+            boolean changed = false;
+            for (Map.Entry<? extends K, ? extends V> entry : multimap.entries()) {
+                changed |= put(entry.getKey(), entry.getValue());
+            }
+            return changed;
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.site.SitePage;
+
+public class UrlCatalogUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenUrlListFiles_whenGeneratingCatalog_thenUrlsAreDeduplicatedPerTypeInFileOrder() throws IOException {
+        Files.write(tempDir.resolve(GlobalConstants.ALL_ARTICLES_FILE_NAME), List.of("/java-streams", "/java-inner-interfaces", "/linux/grep-examples", "/java-streams"));
+        Files.write(tempDir.resolve(GlobalConstants.ALL_PAGES_FILE_NAME), List.of("/", "/java-streams", "/webinar"));
+        final Path catalogFile = tempDir.resolve(GlobalConstants.URL_CATALOG_FILE_NAME);
+
+        UrlCatalogWriter.generate(tempDir, catalogFile);
+        final UrlCatalog catalog = UrlCatalog.open(catalogFile);
+
+        assertEquals(6, catalog.size());
+        assertTrue(UrlCatalogWriter.isUpToDate(catalogFile, tempDir));
+        assertEquals(List.of("/java-streams", "/java-inner-interfaces", "/linux/grep-examples"), toList(catalog, SitePage.Type.ARTICLE));
+        // also an article, still a page
+        assertEquals(List.of("/", "/java-streams", "/webinar"), toList(catalog, SitePage.Type.PAGE));
+        assertFalse(catalog.iterator("UNKNOWN")
+            .hasNext());
+    }
+
+    @Test
+    void givenExceptionList_whenFindingMatchingUrls_thenSameSemanticsAsExcludePage() throws IOException {
+        final UrlCatalogWriter writer = new UrlCatalogWriter();
+        List.of("/kotlin/data-classes", "/linux/grep-examples", "/linux-commands", "/java-streams")
+            .forEach(url -> writer.add(url, SitePage.Type.ARTICLE.name()));
+        final Path catalogFile = tempDir.resolve(GlobalConstants.URL_CATALOG_FILE_NAME);
+        writer.write(catalogFile);
+        final UrlCatalog catalog = UrlCatalog.open(catalogFile);
+
+        final List<String> exceptions = List.of("/linux", "/java-streams");
+        final BitSet matching = catalog.findMatching(exceptions, true);
+
+        for (int i = 0; i < catalog.size(); i++) {
+            assertEquals(Utils.excludePage(catalog.getUrl(i), exceptions, true), matching.get(i), catalog.getUrl(i));
+        }
+        assertEquals(2, matching.cardinality());
+    }
+
+    @Test
+    void givenLearnedWpTags_whenRegeneratingTheCatalog_thenTheWpTagsOfTheListedUrlsAreKept() throws IOException {
+        Files.write(tempDir.resolve(GlobalConstants.ALL_ARTICLES_FILE_NAME), List.of("/java-streams", "/java-inner-interfaces"));
+        Files.write(tempDir.resolve(GlobalConstants.ALL_PAGES_FILE_NAME), List.of("/java-streams"));
+        final Path catalogFile = tempDir.resolve(GlobalConstants.URL_CATALOG_FILE_NAME);
+        UrlCatalogWriter.generate(tempDir, catalogFile);
+        UrlCatalogWriter.updateWpTags(UrlCatalog.open(catalogFile), Map.of("/java-streams", Set.of("no-after-post")), catalogFile);
+
+        Files.write(tempDir.resolve(GlobalConstants.ALL_ARTICLES_FILE_NAME), List.of("/java-inner-interfaces", "/java-streams", "/linux/grep-examples"));
+        UrlCatalogWriter.generate(tempDir, catalogFile);
+        final UrlCatalog catalog = UrlCatalog.open(catalogFile);
+
+        assertEquals(List.of("/java-inner-interfaces", "/java-streams", "/linux/grep-examples"), toList(catalog, SitePage.Type.ARTICLE));
+        assertFalse(catalog.hasWpTags(0));
+        // listed twice, once per type
+        assertEquals(Set.of("no-after-post"), catalog.getWpTags(1));
+        assertEquals(Set.of("no-after-post"), catalog.getWpTags(3));
+        assertEquals(Map.of("/java-streams", Set.of("no-after-post")), catalog.getAllWpTags());
+    }
+
+    private static List<String> toList(UrlCatalog catalog, SitePage.Type type) {
+        final List<String> urls = new ArrayList<>();
+        catalog.iterator(type).forEachRemaining(urls::add);
+        return urls;
+    }
+
+}
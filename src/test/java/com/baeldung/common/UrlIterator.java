@@ -1,30 +1,93 @@
 package com.baeldung.common;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Queue;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * To iterate {@link com.baeldung.site.SitePage} urls by combining multiple iterator in a thread safe way.
+ * <br/>
+ * Urls which failed for a transient reason can be requeued, see {@link #requeue(UrlElement, int)}, they're handed out after all the others.
  */
 @ThreadSafe
 public class UrlIterator implements Iterator<UrlIterator.UrlElement> {
 
     Map<String, Iterator<String>> iterators = new HashMap<>();
+    Map<String, Integer> sizes = new HashMap<>();
+
+    private final Queue<UrlElement> retries = new ArrayDeque<>();
+    // number of loads of the requeued urls
+    private final Map<UrlElement, Integer> attempts = new HashMap<>();
+
+    private volatile int dispensedCount;
 
     public synchronized void append(Object tag, Iterator<String> iterator) {
+        append(tag, iterator, -1);
+    }
+
+    /**
+     * @param size number of urls of the iterator or -1 if unknown, see {@link #getTotalCount()}
+     */
+    public synchronized void append(Object tag, Iterator<String> iterator, int size) {
         if (tag == null) {
             throw new IllegalArgumentException("tag must not be null");
         }
         iterators.put(tag.toString(), iterator);
+        sizes.put(tag.toString(), size);
+    }
+
+    /**
+     * @return number of urls handed out so far, safe to read from any thread
+     */
+    public int getDispensedCount() {
+        return dispensedCount;
+    }
+
+    /**
+     * @return number of all urls or -1 if the size of an iterator is unknown
+     */
+    public synchronized int getTotalCount() {
+        int total = 0;
+        for (int size : sizes.values()) {
+            if (size < 0) {
+                return -1;
+            }
+            total += size;
+        }
+        return total;
+    }
+
+    /**
+     * Queues the url to be handed out again after all the others, unless it's already loaded max attempts times.
+     *
+     * @return true if requeued
+     */
+    public synchronized boolean requeue(UrlElement element, int maxAttempts) {
+        final int attempt = attempts.merge(element, 1, Integer::sum);
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        retries.add(element);
+        return true;
+    }
+
+    /**
+     * @return how many times the url was requeued so far
+     */
+    public synchronized int getRetries(UrlElement element) {
+        return attempts.getOrDefault(element, 0);
     }
 
     @Override
     public synchronized boolean hasNext() {
+        if (!retries.isEmpty())
+            return true;
         if (this.iterators.size() == 0)
             return false;
         boolean hasNext = false;
@@ -36,17 +99,21 @@ public class UrlIterator implements Iterator<UrlIterator.UrlElement> {
 
     @Override
     public synchronized UrlElement next() {
-        if (this.iterators.size() == 0)
-            throw new NoSuchElementException();
-
-        final String found = iterators.keySet()
+        final Optional<String> found = iterators.keySet()
             .stream()
             .filter(tag -> iterators.get(tag)
                 .hasNext())
-            .findAny()
-            .orElseThrow();
+            .findAny();
+        if (found.isEmpty()) {
+            if (retries.isEmpty())
+                throw new NoSuchElementException();
+            // already counted when first handed out
+            return retries.poll();
+        }
 
-        return new UrlElement(found, iterators.get(found).next());
+        final UrlElement element = new UrlElement(found.get(), iterators.get(found.get()).next());
+        dispensedCount++;
+        return element;
     }
 
     /**
@@ -61,4 +61,38 @@ public class UrlIteratorUnitTest {
         Assertions.assertThrows(NoSuchElementException.class, iterator::next);
     }
 
+    @Test
+    void whenIteratingWithKnownSizes_thenProgressCountsAreTracked() {
+
+        UrlIterator iterator = new UrlIterator();
+        iterator.append(SampleTag.LIST1, List.of("url1", "url2").iterator(), 2);
+        iterator.append(SampleTag.LIST2, List.of("url3").iterator(), 1);
+        Assertions.assertEquals(3, iterator.getTotalCount());
+
+        iterator.next();
+        iterator.getNext();
+        Assertions.assertEquals(2, iterator.getDispensedCount());
+
+        iterator.append(SampleTag.LIST3, List.of("url4").iterator());
+        Assertions.assertEquals(-1, iterator.getTotalCount());
+    }
+
+    @Test
+    void whenRequeuingUrls_thenTheyAreRetriedAfterAllTheOthersUpToTheMaxAttempts() {
+
+        UrlIterator iterator = new UrlIterator();
+        iterator.append(SampleTag.LIST1, List.of("url1", "url2").iterator(), 2);
+
+        UrlIterator.UrlElement first = iterator.next();
+        Assertions.assertTrue(iterator.requeue(first, 2));
+        Assertions.assertEquals("url2", iterator.next()
+            .url());
+        Assertions.assertTrue(iterator.hasNext());
+        Assertions.assertEquals(first, iterator.next());
+        Assertions.assertEquals(2, iterator.getDispensedCount());
+
+        Assertions.assertFalse(iterator.requeue(first, 2));
+        Assertions.assertFalse(iterator.hasNext());
+    }
+
 }
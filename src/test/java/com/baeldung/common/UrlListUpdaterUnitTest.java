@@ -0,0 +1,52 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class UrlListUpdaterUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenExistingUrls_whenCheckingAvailability_thenSameSemanticsAsContainsWithTrailingSlash() throws IOException {
+        final Path file = tempDir.resolve("all-articles.txt");
+        Files.write(file, List.of("/java-inner-interfaces", "/linux/grep-examples/", "/kotlin/data-classes"));
+
+        final UrlListUpdater updater = new UrlListUpdater(file);
+
+        assertTrue(updater.contains("/java-inner-interfaces"));
+        assertTrue(updater.contains("/linux/grep-examples"));
+        assertTrue(updater.contains("/grep-examples"));
+        assertTrue(updater.contains("/kotlin"));
+        assertTrue(updater.contains("data-classes"));
+        assertFalse(updater.contains("/java-inner"));
+        assertFalse(updater.contains("/data"));
+        assertFalse(updater.contains("/java-inner-interfaces/"));
+    }
+
+    @Test
+    void givenNewUrls_whenFlushing_thenOnlyUnknownUrlsAreAppendedOnce() throws IOException {
+        final Path file = tempDir.resolve("all-pages.txt");
+        Files.write(file, List.of("/", "/webinar"));
+
+        final UrlListUpdater updater = new UrlListUpdater(file);
+        assertFalse(updater.add("/webinar"));
+        assertTrue(updater.add("/new-page"));
+        assertFalse(updater.add("/new-page"));
+        updater.flush();
+
+        assertEquals(List.of("/", "/webinar", "/new-page"), Files.readAllLines(file));
+        assertTrue(updater.getNewUrls().isEmpty());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.vo.ShardResultVO;
+
+public class UrlShardUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenShards_whenPartitioningUrls_thenEachUrlBelongsToExactlyOneShard() {
+        final List<UrlShard> shards = IntStream.range(0, 4)
+            .mapToObj(index -> new UrlShard(index, 4))
+            .toList();
+
+        for (int i = 0; i < 1000; i++) {
+            final String url = "/article-" + i;
+            assertEquals(1, shards.stream()
+                .filter(shard -> shard.contains(url))
+                .count(), url);
+        }
+        assertTrue(new UrlShard(0, 1).contains("/any-url"));
+        assertThrows(IllegalArgumentException.class, () -> new UrlShard(4, 4));
+    }
+
+    @Test
+    void givenShardResultFiles_whenMerging_thenResultsAreCombinedInShardOrder() throws IOException {
+        final ShardResultVO shard1 = new ShardResultVO(1, 2);
+        shard1.setFailures(1);
+        shard1.setExecutedTests(Map.of("test", 10));
+        shard1.setFailedTests(Map.of("test", 1));
+        shard1.setBadURLs(Map.of("test", List.of("/url-b")));
+        final ShardResultVO shard0 = new ShardResultVO(0, 2);
+        shard0.setFailures(2);
+        shard0.setExecutedTests(Map.of("test", 12));
+        shard0.setFailedTests(Map.of("test", 2));
+        shard0.setBadURLs(Map.of("test", List.of("/url-a", "/url-c")));
+        ShardResults.write(ShardResults.getResultFile(tempDir, new UrlShard(1, 2)), shard1);
+
+        assertThrows(IllegalStateException.class, () -> ShardResults.merge(ShardResults.readAll(tempDir)));
+
+        ShardResults.write(ShardResults.getResultFile(tempDir, new UrlShard(0, 2)), shard0);
+        final ShardResultVO merged = ShardResults.merge(ShardResults.readAll(tempDir));
+
+        assertEquals(3, merged.getFailures());
+        assertEquals(Map.of("test", 22), merged.getExecutedTests());
+        assertEquals(Map.of("test", 3), merged.getFailedTests());
+        assertEquals(List.of("/url-a", "/url-c", "/url-b"), merged.getBadURLs()
+            .get("test"));
+    }
+
+}
@@ -0,0 +1,307 @@
+package com.baeldung.common;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.GlobalConstants.TestMetricTypes;
+import com.google.common.collect.Multimap;
+
+/**
+ * Verdicts of the all urls checks kept between runs, so a check isn't evaluated again on content which didn't change.
+ * <br/>
+ * A verdict is what a check recorded on a url: executions, failures and bad urls. It's replayed instead of running the check
+ * when the version of the check, the exception lists and the normalized content the check reads are the same.
+ * As some checks also depend on external state, like the GitHub repositories, a verdict is reused for -Dverdict.store.max-age.days=7 at most.
+ * <br/>
+ * Enabled via -Dverdict.store=target/verdict-store.tsv, the checks opt in via {@link MemoizedVerdict}.
+ * The file is written on shutdown, delete it to evaluate everything again.
+ */
+@ThreadSafe
+public class VerdictStore implements RecordListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerdictStore.class);
+
+    private static final String EXECUTION = "E";
+    private static final String FAILURE = "F";
+    private static final String METRICS = "M";
+    private static final String BAD_URL = "B";
+    private static final String GITHUB_STATUS = "G";
+
+    private static final String SEPARATOR = "\t";
+    private static final int HEADER_FIELDS = 5;
+    private static final int RECORD_FIELDS = 3;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // changes on every response or deployment, without changing what the checks read
+    private static final Pattern VOLATILE_ATTRIBUTES = Pattern.compile("\\s(nonce|data-nonce)=\"[^\"]*\"|([?&]ver=)[^\"'&\\s]*");
+
+    private static volatile VerdictStore current;
+
+    private final Path file;
+    private final long maxAgeMillis;
+    private final LongSupplier clock;
+    private final String exceptionsHash;
+
+    private final Map<String, Verdict> verdicts = new ConcurrentHashMap<>();
+    private final ThreadLocal<List<String[]>> capture = new ThreadLocal<>();
+    private final Map<String, Multimap<String, String>> badURLsByTest = new ConcurrentHashMap<>();
+    private final Map<String, Multimap<Integer, String>> gitHubStatusByTest = new ConcurrentHashMap<>();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder recorded = new LongAdder();
+
+    record Verdict(String fingerprint, String contentHash, long recordedAt, List<String[]> records) {
+    }
+
+    VerdictStore(Path file, long maxAgeMillis, LongSupplier clock, String exceptionsHash) throws IOException {
+        this.file = file;
+        this.maxAgeMillis = maxAgeMillis;
+        this.clock = clock;
+        this.exceptionsHash = exceptionsHash;
+        if (Files.exists(file)) {
+            load();
+        }
+    }
+
+    /**
+     * Opens the store set via the system property once per JVM.
+     *
+     * @return the store or null if not enabled
+     */
+    public static synchronized VerdictStore getInstance() {
+        final String file = System.getProperty(GlobalConstants.ENV_PROPERTY_VERDICT_STORE);
+        if (current == null && file != null && !file.isBlank()) {
+            try {
+                final VerdictStore store = new VerdictStore(Paths.get(file),
+                    TimeUnit.DAYS.toMillis(Long.getLong(GlobalConstants.ENV_PROPERTY_VERDICT_STORE_MAX_AGE, 7)), System::currentTimeMillis,
+                    hash(List.of(YAMLProperties.exceptionsForTests.toString(), YAMLProperties.exceptionsForTestsLevel2.toString(),
+                        YAMLProperties.exceptionsForTestsBasedOnTags.toString())));
+                JVMShutdownHook.addShutdownTask(store::saveQuietly);
+                BaseTest.addRecordListener(store);
+                current = store;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return the opened store or null, used by {@link AllUrlsConcurrentExtension}
+     */
+    static VerdictStore current() {
+        return current;
+    }
+
+    /**
+     * @return identifies the logic a verdict was made with: the version of the check and the exception lists
+     */
+    public String fingerprint(int version) {
+        return version + ":" + exceptionsHash;
+    }
+
+    /**
+     * @return hash of the content, ignoring whitespace and the attributes which change on every response
+     */
+    public static String contentHash(List<String> fragments) {
+        final List<String> normalized = new ArrayList<>(fragments.size());
+        for (String fragment : fragments) {
+            normalized.add(WHITESPACE.matcher(VOLATILE_ATTRIBUTES.matcher(fragment)
+                .replaceAll("$2"))
+                .replaceAll(" ")
+                .trim());
+        }
+        return hash(normalized);
+    }
+
+    private static String hash(List<String> values) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of()
+                .formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Captures the bad urls of the test, and takes the replayed ones.
+     */
+    public Multimap<String, String> captureBadURLs(String testName, Multimap<String, String> badURLs) {
+        badURLsByTest.put(testName, badURLs);
+        return new ProgressJournal.JournaledMultimap<>(badURLs, (test, result) -> append(BAD_URL, test, result));
+    }
+
+    public Multimap<Integer, String> captureGitHubStatus(String testName, Multimap<Integer, String> resultsForGitHubHttpStatusTest) {
+        gitHubStatusByTest.put(testName, resultsForGitHubHttpStatusTest);
+        return new ProgressJournal.JournaledMultimap<>(resultsForGitHubHttpStatusTest,
+            (status, result) -> append(GITHUB_STATUS, String.valueOf(status), result));
+    }
+
+    /**
+     * Replays the verdict of the test on the url if it was made with the same logic on the same content.
+     *
+     * @return true if replayed, the check doesn't need to run
+     */
+    public boolean replay(String testName, String url, String fingerprint, String contentHash) {
+        final Verdict verdict = verdicts.get(key(testName, url));
+        if (verdict == null || isExpired(verdict) || !fingerprint.equals(verdict.fingerprint()) || !contentHash.equals(verdict.contentHash())) {
+            return false;
+        }
+        for (String[] record : verdict.records()) {
+            switch (record[0]) {
+            case EXECUTION -> BaseTest.recordExecution(record[1]);
+            case FAILURE -> BaseTest.recordFailure(record[1], Integer.parseInt(record[2]));
+            case METRICS -> BaseTest.recordMetrics(Integer.parseInt(record[2]), TestMetricTypes.FAILED);
+            case BAD_URL -> badURLsByTest.get(testName)
+                .put(record[1], record[2]);
+            case GITHUB_STATUS -> gitHubStatusByTest.get(testName)
+                .put(Integer.valueOf(record[1]), record[2]);
+            default -> logger.warn("Unknown verdict record: {}", record[0]);
+            }
+        }
+        reused.increment();
+        return true;
+    }
+
+    /**
+     * Starts capturing what the current thread records, until {@link #commit} or {@link #discard()}.
+     */
+    public void begin() {
+        capture.set(new ArrayList<>());
+    }
+
+    public void commit(String testName, String url, String fingerprint, String contentHash) {
+        final List<String[]> records = capture.get();
+        if (records != null) {
+            verdicts.put(key(testName, url), new Verdict(fingerprint, contentHash, clock.getAsLong(), records));
+            recorded.increment();
+        }
+        capture.remove();
+    }
+
+    public void discard() {
+        capture.remove();
+    }
+
+    @Override
+    public void recordExecution(String name) {
+        append(EXECUTION, name, "");
+    }
+
+    @Override
+    public void recordFailure(String name, int count) {
+        append(FAILURE, name, String.valueOf(count));
+    }
+
+    @Override
+    public void recordMetrics(int count) {
+        append(METRICS, "", String.valueOf(count));
+    }
+
+    private void append(String type, String first, String second) {
+        final List<String[]> records = capture.get();
+        if (records != null) {
+            records.add(new String[] { type, first, second });
+        }
+    }
+
+    private boolean isExpired(Verdict verdict) {
+        return clock.getAsLong() - verdict.recordedAt() > maxAgeMillis;
+    }
+
+    private void load() throws IOException {
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            final String[] fields = line.split(SEPARATOR, -1);
+            if (fields.length < HEADER_FIELDS || (fields.length - HEADER_FIELDS) % RECORD_FIELDS != 0) {
+                continue;
+            }
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = ProgressJournal.unescape(fields[i]);
+            }
+            final List<String[]> records = new ArrayList<>();
+            for (int i = HEADER_FIELDS; i < fields.length; i += RECORD_FIELDS) {
+                records.add(new String[] { fields[i], fields[i + 1], fields[i + 2] });
+            }
+            final Verdict verdict = new Verdict(fields[2], fields[3], Long.parseLong(fields[4]), Collections.unmodifiableList(records));
+            if (!isExpired(verdict)) {
+                verdicts.put(key(fields[0], fields[1]), verdict);
+            }
+        }
+        logger.info(ConsoleColors.magentaColordMessage("Loaded {} verdicts from {}"), verdicts.size(), file);
+    }
+
+    /**
+     * Writes the verdicts which aren't expired, replacing the file at once.
+     */
+    public void save() throws IOException {
+        final Path parent = file.toAbsolutePath()
+            .getParent();
+        Files.createDirectories(parent);
+        final Path temp = Files.createTempFile(parent, "verdicts", ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Verdict> entry : verdicts.entrySet()) {
+                final Verdict verdict = entry.getValue();
+                if (isExpired(verdict)) {
+                    continue;
+                }
+                final String[] testNameAndUrl = entry.getKey()
+                    .split(SEPARATOR, 2);
+                final StringBuilder line = new StringBuilder(ProgressJournal.escape(testNameAndUrl[0]));
+                for (String field : List.of(testNameAndUrl[1], verdict.fingerprint(), verdict.contentHash(), String.valueOf(verdict.recordedAt()))) {
+                    line.append(SEPARATOR)
+                        .append(ProgressJournal.escape(field));
+                }
+                for (String[] record : verdict.records()) {
+                    for (String field : record) {
+                        line.append(SEPARATOR)
+                            .append(ProgressJournal.escape(field));
+                    }
+                }
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info(ConsoleColors.magentaColordMessage("Reused {} verdicts, recorded {}, saved to {}"), reused.sum(), recorded.sum(), file);
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (IOException e) {
+            logger.error("Couldn't save the verdicts", e);
+        }
+    }
+
+    private static String key(String testName, String url) {
+        return testName + SEPARATOR + url;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+
+public class VerdictStoreUnitTest {
+
+    private static final String TEST_NAME = "givenAllArticles_whenMemoizing_thenReused";
+    private static final String URL = "https://www.baeldung.com/java-streams";
+    private static final long MAX_AGE = TimeUnit.DAYS.toMillis(7);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenARecordedVerdict_whenReopening_thenItIsReplayedOnTheSameContentOnly() throws IOException {
+        final Path file = tempDir.resolve("verdict-store.tsv");
+        final VerdictStore store = new VerdictStore(file, MAX_AGE, clock::get, "exceptions");
+        final Multimap<String, String> badURLs = store.captureBadURLs(TEST_NAME, ArrayListMultimap.create());
+        final String hash = VerdictStore.contentHash(List.of("<h2>Java streams</h2>"));
+
+        assertFalse(store.replay(TEST_NAME, URL, store.fingerprint(1), hash));
+        store.begin();
+        store.recordFailure(TEST_NAME, 2);
+        badURLs.put(TEST_NAME, URL + "\n( bad\ttitle )");
+        store.commit(TEST_NAME, URL, store.fingerprint(1), hash);
+        store.save();
+
+        final VerdictStore reopened = new VerdictStore(file, MAX_AGE, clock::get, "exceptions");
+        final Multimap<String, String> replayed = ArrayListMultimap.create();
+        reopened.captureBadURLs(TEST_NAME, replayed);
+
+        assertFalse(reopened.replay(TEST_NAME, URL, reopened.fingerprint(2), hash));
+        assertFalse(reopened.replay(TEST_NAME, URL, reopened.fingerprint(1), VerdictStore.contentHash(List.of("<h2>Java Streams</h2>"))));
+        assertTrue(reopened.replay(TEST_NAME, URL, reopened.fingerprint(1), hash));
+        assertEquals(List.of(URL + "\n( bad\ttitle )"), replayed.get(TEST_NAME));
+    }
+
+    @Test
+    void givenChangedExceptionsOrAnOldVerdict_whenReplaying_thenTheCheckRunsAgain() throws IOException {
+        final VerdictStore store = new VerdictStore(tempDir.resolve("verdict-store.tsv"), MAX_AGE, clock::get, "exceptions");
+        final String hash = VerdictStore.contentHash(List.of("<a href=\"https://docs.oracle.com/javase/7/docs/api/\">List</a>"));
+        store.begin();
+        store.commit(TEST_NAME, URL, store.fingerprint(1), hash);
+
+        assertNotEquals(store.fingerprint(1), new VerdictStore(tempDir.resolve("other.tsv"), MAX_AGE, clock::get, "changed").fingerprint(1));
+        assertTrue(store.replay(TEST_NAME, URL, store.fingerprint(1), hash));
+
+        clock.addAndGet(MAX_AGE + 1);
+
+        assertFalse(store.replay(TEST_NAME, URL, store.fingerprint(1), hash));
+    }
+
+    @Test
+    void givenWhitespaceNoncesAndAssetVersions_whenHashingTheContent_thenTheyAreIgnored() {
+        assertEquals(VerdictStore.contentHash(List.of("<h2>Java  Streams</h2>", "<script nonce=\"a1\" src=\"/app.js?ver=6.1\"></script>")),
+            VerdictStore.contentHash(List.of("<h2>Java\n Streams</h2>", "<script nonce=\"b2\" src=\"/app.js?ver=6.2\"></script>")));
+        assertNotEquals(VerdictStore.contentHash(List.of("<h2>Java Streams</h2>")), VerdictStore.contentHash(List.of("<h2>Java streams</h2>")));
+    }
+
+}
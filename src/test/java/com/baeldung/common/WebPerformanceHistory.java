@@ -0,0 +1,210 @@
+package com.baeldung.common;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.vo.WebPerformanceVO;
+import com.baeldung.common.vo.WebPerformanceVO.Metric;
+
+/**
+ * Evaluates the web performance of the pages against budgets, and against the previous runs when a history file is set.
+ * <br/>
+ * Budgets are set per metric, like -Dweb-performance.budget.lcp=2500, the metrics are the keys of {@link Metric}.
+ * Without any, the pages fail only on a poor LCP (4s) or CLS (0.25).
+ * <br/>
+ * With -Dweb-performance.history=target/web-performance.tsv, the last -Dweb-performance.history.runs=5 samples of each url are kept,
+ * one line per url, and a metric regresses when it exceeds -Dweb-performance.regression.tolerance=1.5 times its median over them.
+ * The file is written on shutdown, by {@link JVMShutdownHook}.
+ */
+@ThreadSafe
+public class WebPerformanceHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebPerformanceHistory.class);
+
+    private static final Map<Metric, Double> DEFAULT_BUDGETS = Map.of(Metric.LCP, 4000d, Metric.CLS, 0.25);
+    private static final int MIN_SAMPLES_FOR_REGRESSION = 3;
+
+    private static final String SEPARATOR = "\t";
+    private static final String TIME_SEPARATOR = ":";
+    private static final String VALUE_SEPARATOR = ",";
+
+    private static WebPerformanceHistory defaultInstance;
+
+    // null when only the budgets are evaluated
+    private final Path file;
+    private final Map<Metric, Double> budgets;
+    private final int runs;
+    private final double tolerance;
+    private final LongSupplier clock;
+
+    private final Map<String, List<Sample>> previousSamples = new ConcurrentHashMap<>();
+    private final Map<String, Sample> currentSamples = new ConcurrentHashMap<>();
+
+    record Sample(long recordedAt, WebPerformanceVO performance) {
+    }
+
+    WebPerformanceHistory(Path file, Map<Metric, Double> budgets, int runs, double tolerance, LongSupplier clock) throws IOException {
+        this.file = file;
+        this.budgets = budgets;
+        this.runs = runs;
+        this.tolerance = tolerance;
+        this.clock = clock;
+        if (file != null && Files.exists(file)) {
+            load();
+        }
+    }
+
+    public static synchronized WebPerformanceHistory getDefault() {
+        if (defaultInstance == null) {
+            final String file = System.getProperty(GlobalConstants.ENV_PROPERTY_WEB_PERFORMANCE_HISTORY);
+            try {
+                final WebPerformanceHistory history = new WebPerformanceHistory(file == null || file.isBlank() ? null : Paths.get(file),
+                    budgetsFromProperties(System.getProperties()), Integer.getInteger(GlobalConstants.ENV_PROPERTY_WEB_PERFORMANCE_HISTORY_RUNS, 5),
+                    Double.parseDouble(System.getProperty(GlobalConstants.ENV_PROPERTY_WEB_PERFORMANCE_REGRESSION_TOLERANCE, "1.5")), System::currentTimeMillis);
+                if (history.file != null) {
+                    JVMShutdownHook.addShutdownTask(history::saveQuietly);
+                }
+                defaultInstance = history;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return defaultInstance;
+    }
+
+    static Map<Metric, Double> budgetsFromProperties(Properties properties) {
+        final Map<Metric, Double> budgets = new EnumMap<>(DEFAULT_BUDGETS);
+        for (Metric metric : Metric.values()) {
+            final String budget = properties.getProperty(GlobalConstants.ENV_PROPERTY_WEB_PERFORMANCE_BUDGET_PREFIX + metric.getKey());
+            if (budget != null) {
+                budgets.put(metric, Double.valueOf(budget));
+            }
+        }
+        return budgets;
+    }
+
+    /**
+     * Records the performance of the url in this run.
+     *
+     * @return the metrics over their budget or regressed against the previous runs, like: "lcp 5210 > budget 4000", empty if none
+     */
+    public List<String> evaluate(String url, WebPerformanceVO performance) {
+        currentSamples.put(url, new Sample(clock.getAsLong(), performance));
+        final List<String> violations = new ArrayList<>();
+        for (Metric metric : Metric.values()) {
+            final double value = performance.get(metric);
+            final Double budget = budgets.get(metric);
+            if (budget != null && value > budget) {
+                violations.add(metric.getKey() + " " + format(metric, value) + " > budget " + format(metric, budget));
+                continue;
+            }
+            final List<Sample> previous = previousSamples.get(url);
+            if (previous == null || previous.size() < MIN_SAMPLES_FOR_REGRESSION) {
+                continue;
+            }
+            final double median = median(previous, metric);
+            if (value > median * tolerance && value - median >= metric.getMinimumRegression()) {
+                violations.add(metric.getKey() + " " + format(metric, value) + " > median " + format(metric, median) + " of the last " + previous.size() + " runs");
+            }
+        }
+        return violations;
+    }
+
+    private static double median(List<Sample> samples, Metric metric) {
+        final double[] values = samples.stream()
+            .mapToDouble(sample -> sample.performance()
+                .get(metric))
+            .sorted()
+            .toArray();
+        final int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+
+    private static String format(Metric metric, double value) {
+        return metric == Metric.CLS ? String.format(Locale.ROOT, "%.3f", value) : String.valueOf(Math.round(value));
+    }
+
+    private void load() throws IOException {
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            final String[] fields = line.split(SEPARATOR);
+            final List<Sample> samples = new ArrayList<>();
+            for (int i = 1; i < fields.length; i++) {
+                final String[] timeAndValues = fields[i].split(TIME_SEPARATOR, 2);
+                final double[] values = Arrays.stream(timeAndValues[1].split(VALUE_SEPARATOR))
+                    .mapToDouble(Double::parseDouble)
+                    .toArray();
+                if (values.length == Metric.values().length) {
+                    samples.add(new Sample(Long.parseLong(timeAndValues[0]), WebPerformanceVO.of(values)));
+                }
+            }
+            if (!samples.isEmpty()) {
+                previousSamples.put(fields[0], List.copyOf(samples));
+            }
+        }
+        logger.info(ConsoleColors.magentaColordMessage("Loaded the web performance history of {} urls from {}"), previousSamples.size(), file);
+    }
+
+    /**
+     * Writes the last samples of each url, the ones of this run included, replacing the file at once.
+     */
+    public void save() throws IOException {
+        final Map<String, List<Sample>> samples = new ConcurrentHashMap<>(previousSamples);
+        currentSamples.forEach((url, sample) -> samples.merge(url, List.of(sample), (previous, current) -> {
+            final List<Sample> merged = new ArrayList<>(previous);
+            merged.addAll(current);
+            return merged.subList(Math.max(0, merged.size() - runs), merged.size());
+        }));
+        final Path parent = file.toAbsolutePath()
+            .getParent();
+        Files.createDirectories(parent);
+        final Path temp = Files.createTempFile(parent, "web-performance", ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, List<Sample>> entry : samples.entrySet()) {
+                final StringBuilder line = new StringBuilder(entry.getKey());
+                for (Sample sample : entry.getValue()) {
+                    line.append(SEPARATOR)
+                        .append(sample.recordedAt())
+                        .append(TIME_SEPARATOR);
+                    for (Metric metric : Metric.values()) {
+                        line.append(metric.ordinal() == 0 ? "" : VALUE_SEPARATOR)
+                            .append(format(metric, sample.performance()
+                                .get(metric)));
+                    }
+                }
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info(ConsoleColors.magentaColordMessage("Saved the web performance of {} urls to {}"), currentSamples.size(), file);
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (IOException e) {
+            logger.error("Couldn't save the web performance history", e);
+        }
+    }
+
+}
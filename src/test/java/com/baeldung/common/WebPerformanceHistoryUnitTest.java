@@ -0,0 +1,66 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.common.vo.WebPerformanceVO;
+
+public class WebPerformanceHistoryUnitTest {
+
+    private static final String URL = "https://www.baeldung.com/java-streams";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenBudgets_whenAMetricExceedsItsBudget_thenItIsReported() throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(GlobalConstants.ENV_PROPERTY_WEB_PERFORMANCE_BUDGET_PREFIX + "requests", "100");
+        final WebPerformanceHistory history = new WebPerformanceHistory(null, WebPerformanceHistory.budgetsFromProperties(properties), 5, 1.5, clock::get);
+
+        assertEquals(List.of(), history.evaluate(URL, performance(2000, 0.05, 90)));
+        assertEquals(List.of("lcp 4200 > budget 4000", "cls 0.300 > budget 0.250", "requests 120 > budget 100"),
+            history.evaluate(URL, performance(4200, 0.3, 120)));
+    }
+
+    @Test
+    void givenThePreviousRuns_whenAMetricExceedsTheirMedianBeyondTheTolerance_thenItIsReported() throws IOException {
+        final Path file = tempDir.resolve("web-performance.tsv");
+        for (long lcp : List.of(1000, 1100, 900, 5000)) {
+            final WebPerformanceHistory run = new WebPerformanceHistory(file, Map.of(), 3, 1.5, clock::get);
+            run.evaluate(URL, performance(lcp, 0, 50));
+            run.save();
+            clock.incrementAndGet();
+        }
+        // only the last 3 runs are kept
+        final List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        final String[] fields = lines.get(0)
+            .split("\t");
+        assertEquals(URL, fields[0]);
+        assertEquals(3, fields.length - 1);
+
+        final WebPerformanceHistory history = new WebPerformanceHistory(file, Map.of(), 3, 1.5, clock::get);
+
+        assertEquals(List.of(), history.evaluate(URL, performance(1600, 0.04, 54)));
+        assertEquals(List.of("lcp 1700 > median 1100 of the last 3 runs"), history.evaluate(URL, performance(1700, 0.04, 54)));
+        assertEquals(List.of(), history.evaluate("https://www.baeldung.com/java-collections", performance(9000, 0, 50)));
+    }
+
+    private static WebPerformanceVO performance(long lcp, double cls, int requests) {
+        return new WebPerformanceVO(100, 800, 1200, lcp, cls, 400_000, requests);
+    }
+
+}
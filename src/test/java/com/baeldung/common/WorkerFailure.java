@@ -0,0 +1,88 @@
+package com.baeldung.common;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Locale;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import com.baeldung.site.SitePage;
+import com.google.common.base.Throwables;
+
+/**
+ * Why a worker of {@link AllUrlsConcurrentExtension} failed on a url, to tell the failures of the page from the ones of the run.
+ * <br/>
+ * Only {@link #CHECK} failures are reported, the url of the others is requeued, see {@link UrlIterator#requeue(UrlIterator.UrlElement, int)}.
+ */
+public enum WorkerFailure {
+
+    /**
+     * The browser session is gone, it has to be replaced before loading the next url.
+     */
+    DRIVER_DEAD,
+
+    /**
+     * A timeout or a server error, the url may pass when loaded again.
+     */
+    TRANSIENT,
+
+    /**
+     * A real failure of the check.
+     */
+    CHECK;
+
+    private static final List<String> DRIVER_DEAD_MESSAGES = List.of("chrome not reachable", "invalid session id", "session deleted", "tab crashed",
+        "disconnected: not connected to devtools", "target window already closed");
+
+    /**
+     * Classifies the failure by its causes, the first classified as driver dead or transient wins.
+     */
+    public static WorkerFailure of(Throwable failure) {
+        for (Throwable cause : Throwables.getCausalChain(failure)) {
+            if (isDriverDead(cause)) {
+                return DRIVER_DEAD;
+            }
+            if (isTransient(cause)) {
+                return TRANSIENT;
+            }
+        }
+        return CHECK;
+    }
+
+    private static boolean isDriverDead(Throwable failure) {
+        if (failure instanceof NoSuchSessionException || failure instanceof SessionNotCreatedException || failure instanceof NoSuchWindowException
+            || failure instanceof UnreachableBrowserException) {
+            return true;
+        }
+        final String message = message(failure);
+        return DRIVER_DEAD_MESSAGES.stream()
+            .anyMatch(message::contains);
+    }
+
+    private static boolean isTransient(Throwable failure) {
+        return failure instanceof TimeoutException || failure instanceof ScriptTimeoutException || failure instanceof StaleElementReferenceException
+            || failure instanceof SocketTimeoutException || failure instanceof java.util.concurrent.TimeoutException
+            || message(failure).contains("timed out receiving message from renderer");
+    }
+
+    private static String message(Throwable failure) {
+        return failure.getMessage() == null ? "" : failure.getMessage()
+            .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return true if the last load of the page got a 5xx response, false if it didn't or the response isn't recorded
+     */
+    public static boolean isServerError(SitePage page) {
+        return page.getDocumentResponse()
+            .filter(response -> response.status() >= 500)
+            .isPresent();
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.baeldung.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+public class WorkerFailureUnitTest {
+
+    @Test
+    void givenFailures_whenClassifying_thenOnlyTheOnesOfThePageAreCheckFailures() {
+        assertEquals(List.of(WorkerFailure.DRIVER_DEAD, WorkerFailure.DRIVER_DEAD, WorkerFailure.TRANSIENT, WorkerFailure.TRANSIENT, WorkerFailure.CHECK,
+            WorkerFailure.CHECK), List.of(new NoSuchSessionException("invalid session id"), new WebDriverException("unknown error: session deleted because of page crash"),
+                new TimeoutException("timeout: Timed out receiving message from renderer: 300.000"), new RuntimeException(new SocketTimeoutException("Read timed out")),
+                new AssertionError("expected: <true> but was: <false>"), new IllegalStateException("No author found"))
+                .stream()
+                .map(WorkerFailure::of)
+                .toList());
+    }
+
+}
@@ -35,7 +35,7 @@ public class Crawler4JTest extends BaseCrawler4JTest {
         Multimap<String, String> gitHubModuleAndPostsMap = null;
 
         logger.info("Start - creating Map for GitHub modules and Posts");
-        gitHubModuleAndPostsMap = Utils.createMapForGitHubModuleAndPosts(codeSnippetCrawlerController.getBaseURL(), fileForJavaConstructsTest, rateLimiter);
+        gitHubModuleAndPostsMap = Utils.createMapForGitHubModuleAndPosts(codeSnippetCrawlerController.getBaseURL(), fileForJavaConstructsTest);
         logger.info("Finished - creating Map for GitHub modules and Posts");
 
         gitHubModuleAndPostsMap.asMap().forEach((gitHubUrl, posts) -> {
@@ -49,7 +49,6 @@ public class Crawler4JTest extends BaseCrawler4JTest {
             List<JavaConstruct> javaConstructsOnGitHub = Utils.getDiscoveredJavaArtifacts(codeSnippetCrawlerController.getDiscoveredJacaConstructs());
             codeSnippetCrawlerController.shutdownCrawler();
             for (String postUrl : posts) {
-                rateLimiter.acquire();
                 try {
                     logger.info("Getting Java Constructs from: " + postUrl);
                     // get HTML of the post
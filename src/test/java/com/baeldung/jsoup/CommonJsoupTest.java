@@ -9,7 +9,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,21 +16,27 @@ import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.baeldung.common.DocumentStore;
 import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.TestMetricsExtension;
+import com.baeldung.common.Utils;
 
 import com.baeldung.utility.TestUtils;
 
 @ExtendWith(TestMetricsExtension.class)
 public class CommonJsoupTest extends BaseJsoupTest{
+
+    // the thank you pages are checked by several tests, they're fetched concurrently once for all of them
+    private static final DocumentStore thankYouPages = new DocumentStore(() -> TestUtils.thankYouPagesUrls()
+        .toList(), Utils::getJSoupDocument, CONCURRENCY_LEVEL);
     
     @ParameterizedTest(name = " {displayName} - on {0}")
     @MethodSource("com.baeldung.utility.TestUtils#thankYouPagesUrlsProvider")
     @Tag(GlobalConstants.THANKYOU_PAGES_EVENT_TRACKING)
     public final void givenAThankYouPage_whenThePageLoads_thenTheItHasTheFacebookEventTrackingCode(String url) throws IOException {      
                 
-        logger.info("Processing " + url);
-        Document doc = Jsoup.connect(url).get();       
+        logger.info("Processing {}", url);
+        Document doc = thankYouPages.get(url);
         assertAll(() -> assertTrue(TestUtils.facebookMainEventTrackingScriptExistsOnTKP.apply(doc, url), String.format("Facebook main tracking code not found on %s", url)),
                   () -> assertTrue(TestUtils.facebookEventConversionTrackingScriptExistsOnTKP.apply(doc, url), String.format("Facebook event price tracking code not found on %s", url)));
        
@@ -42,8 +47,8 @@ public class CommonJsoupTest extends BaseJsoupTest{
     @Tag(GlobalConstants.THANKYOU_PAGES_EVENT_TRACKING)
     public final void givenAThankYouPage_whenThePageLoads_thenTheItHasTheDripEventTrackingCode(String url) throws IOException {      
                 
-        logger.info("Processing " + url);
-        Document doc = Jsoup.connect(url).get();       
+        logger.info("Processing {}", url);
+        Document doc = thankYouPages.get(url);
         assertAll(() -> assertTrue(TestUtils.dripMainEventTrackingScriptExistsOnTKP.apply(doc, url), String.format("Drip main tracking code not found on %s", url)),
                   () -> assertTrue(TestUtils.dripEventConversionTrackingScriptExistsOnTKP.apply(doc, url), String.format("Drip[ event price tracking code not found on %s", url)));
        
@@ -54,8 +59,8 @@ public class CommonJsoupTest extends BaseJsoupTest{
     @Tag(GlobalConstants.THANKYOU_PAGES_EVENT_TRACKING)
     public final void givenAThankYouPage_whenThePageLoads_thenTheItHasTheGoogleEventTrackingCode(String url) throws IOException {
 
-        logger.info("Processing " + url);
-        Document doc = Jsoup.connect(url).get();
+        logger.info("Processing {}", url);
+        Document doc = thankYouPages.get(url);
         assertAll(() -> assertTrue(TestUtils.googleMainEventTrackingScriptExistsOnTKP.apply(doc, url), String.format("Google main tracking code not found on %s", url)),
                 () -> assertTrue(TestUtils.googleEventConversionTrackingScriptExistsOnTKP.apply(doc, url), String.format("Goole[ event price tracking code not found on %s", url)));
 
@@ -67,7 +72,7 @@ public class CommonJsoupTest extends BaseJsoupTest{
         String fullUrl = baseURL + url;
                  
         logger.info(greenBoldMessage("inspecting:{}  "), fullUrl);
-        Document doc = Jsoup.connect(fullUrl).get(); 
+        Document doc = Utils.getJSoupDocument(fullUrl); 
         List<Executable> tests = new ArrayList<>();
         
         for(String slotId: slotIds) {
@@ -25,7 +25,6 @@ import com.baeldung.utility.TestUtils;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
-import com.google.common.util.concurrent.RateLimiter;
 
 public class JavaConstructsTest extends BaseJsoupTest {
 
@@ -38,8 +37,6 @@ public class JavaConstructsTest extends BaseJsoupTest {
     @Value("${redownload-repo}")
     protected String redownloadRepo;
 
-    protected RateLimiter rateLimiter = RateLimiter.create(1);
-
     @BeforeEach
     public void loadGitHubRepositories() {
         logger.info("Loading Github repositories into local");
@@ -68,7 +65,6 @@ public class JavaConstructsTest extends BaseJsoupTest {
         for (String url : posts) {
             String postUrl = baseURL + url;
             logger.info("Processing: {}", postUrl);
-            rateLimiter.acquire();
             List<String> gitHubUrls = Utils.getGitHubModuleUrl(postUrl);
             if (gitHubUrls.isEmpty()) {
                 // no GitHub url found, no-op
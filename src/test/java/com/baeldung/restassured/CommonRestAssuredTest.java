@@ -7,6 +7,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HostRateLimitFilter;
 import com.baeldung.common.Utils;
 
 import io.restassured.RestAssured;
@@ -23,7 +24,7 @@ public class CommonRestAssuredTest extends BaseRestAssuredTest {
         if (!url.contains("http://")) {
             fullUrl = baseURL + url;
         }
-        Response response = RestAssured.given().redirects().follow(false).get(fullUrl);
+        Response response = RestAssured.given().filter(HostRateLimitFilter.getDefault()).redirects().follow(false).get(fullUrl);
 
         assertTrue(Utils.addTrailingSlasIfNotExists(response.getHeader("Location").toLowerCase()).equals(Utils.addTrailingSlasIfNotExists(redirectedTo.toLowerCase())), url + " doesn't redirec to " + redirectedTo);
     }
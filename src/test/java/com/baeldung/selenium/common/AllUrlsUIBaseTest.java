@@ -1,7 +1,10 @@
 package com.baeldung.selenium.common;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.file.Paths;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -16,35 +19,62 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.extension.support.TypeBasedParameterResolver;
+import org.junit.platform.commons.util.AnnotationUtils;
 import org.springframework.beans.factory.annotation.Value;
 
 import com.baeldung.common.AllUrlsConcurrentExtension;
+import com.baeldung.common.CheckPlan;
+import com.baeldung.common.FailureSink;
 import com.baeldung.common.GithubRepositories;
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.GlobalConstants.TestMetricTypes;
+import com.baeldung.common.LinkChecker;
+import com.baeldung.common.LogOnce;
+import com.baeldung.common.PageTypes;
+import com.baeldung.common.PerThreadMultimap;
+import com.baeldung.common.ProgressJournal;
+import com.baeldung.common.ProgressReporter;
+import com.baeldung.common.ShardResults;
+import com.baeldung.common.TimingMetrics;
+import com.baeldung.common.UrlAttempt;
+import com.baeldung.common.UrlCatalog;
 import com.baeldung.common.UrlIterator;
+import com.baeldung.common.UrlShard;
 import com.baeldung.common.Utils;
+import com.baeldung.common.VerdictStore;
+import com.baeldung.common.WorkerFailure;
 import com.baeldung.common.YAMLProperties;
 import com.baeldung.common.vo.GitHubRepoVO;
 import com.baeldung.site.SitePage;
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 
 /**
  * Enables {@link AllUrlsConcurrentExtension} Junit extension.
+ * <br/>
+ * The urls of each test are planned before loading any page with {@link CheckPlan}, from its {@link PageTypes} and the test names of its {@link LogOnce}.
+ * <br/>
+ * A url failing for a reason other than the check, see {@link WorkerFailure}, is loaded again after all the others, up to -Dretry.max-attempts=3 times in total,
+ * waiting -Dretry.backoff.millis=1000 before the first retry and twice as long before each next one.
  */
 public class AllUrlsUIBaseTest extends ConcurrentBaseUISeleniumTest {
 
     private static final String HTML_EXTENSION = ".html";
     private static final Character SLASH_CHARACTER = '/';
     private static final String YES_VALUE = "YES";
+    private static final int MAX_ATTEMPTS = Integer.getInteger(GlobalConstants.ENV_PROPERTY_RETRY_MAX_ATTEMPTS, 3);
+    // doubled on each retry of a url
+    private static final long RETRY_BACKOFF_MILLIS = Long.getLong(GlobalConstants.ENV_PROPERTY_RETRY_BACKOFF_MILLIS, 1000);
 
     /**
      * Overwrites ConcurrentBaseTest.extension
      */
     @RegisterExtension
     AllUrlsConcurrentExtension extension = new AllUrlsConcurrentExtension(
-        CONCURRENCY_LEVEL, this, () -> logger, this::loadNextURL);
+        CONCURRENCY_LEVEL, this, () -> logger, this::loadNextURL, this::urlProcessed, this::requeueURL, this::reportGivenUpURL);
+
+    protected static final ProgressJournal progressJournal = ProgressJournal.getInstance();
+
+    protected static final VerdictStore verdictStore = VerdictStore.getInstance();
 
     @RegisterExtension
     static ParameterResolver nullResolver = new TypeBasedParameterResolver<SitePage>() {
@@ -76,7 +106,24 @@ public class AllUrlsUIBaseTest extends ConcurrentBaseUISeleniumTest {
 
     protected UrlIterator urlIterator;
 
+    // the url loaded by each worker, to requeue it
+    private final ThreadLocal<UrlIterator.UrlElement> currentElement = new ThreadLocal<>();
+
+    protected UrlShard urlShard = UrlShard.fromSystemProperties();
+
+    // null when running a single url
+    protected CheckPlan checkPlan;
+
+    private String testName;
+
+    private ProgressReporter progressReporter;
+
+    // created by the first check harvesting links
+    private LinkChecker linkChecker;
+
+    // on disk, see FailureSink
     protected Multimap<String, String> badURLs;
+    private FailureSink failureSink;
     protected Multimap<Integer, String> resultsForGitHubHttpStatusTest;
 
     protected List<String> level2ExceptionsForJavaDocTest= YAMLProperties.exceptionsForTestsLevel2.get(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs);
@@ -84,19 +131,55 @@ public class AllUrlsUIBaseTest extends ConcurrentBaseUISeleniumTest {
     protected List<String> level2ExceptionsForTitleProperDotsTest= YAMLProperties.exceptionsForTestsLevel2.get(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperDotsInTitle);
 
     @BeforeEach
-    public void setup() throws IOException {
+    public void setup(TestInfo testInfo) throws IOException {
+        testName = testInfo.getTestMethod()
+            .map(Method::getName)
+            .orElse(testInfo.getDisplayName());
         logger.info("The test will ignore URls newer than {} weeks", ignoreUrlsNewerThanWeeks);
         urlIterator = new UrlIterator();
         if (StringUtils.isNotEmpty(singleURL)) {
             // when a single url is given, all tests run against only that url
-            urlIterator.append(SitePage.Type.ARTICLE, Collections.singleton(singleURL).iterator());
+            urlIterator.append(SitePage.Type.ARTICLE, Collections.singleton(singleURL).iterator(), 1);
         } else {
-            // otherwise load all pages
-            urlIterator.append(SitePage.Type.ARTICLE, Utils.fetchAllArtilcesAsListIterator());
-            urlIterator.append(SitePage.Type.PAGE, Utils.fetchAllPagesAsListIterator());
+            // otherwise load the pages the test applies to, only the ones of this shard when sharded
+            checkPlan = CheckPlan.getDefault();
+            if (urlShard.isSharded()) {
+                logger.info("Running the urls of {}", urlShard);
+            }
+            final List<SitePage.Type> pageTypes = testInfo.getTestMethod()
+                .flatMap(method -> AnnotationUtils.findAnnotation(method, PageTypes.class))
+                .map(annotation -> List.of(annotation.value()))
+                .filter(types -> !types.isEmpty())
+                .orElse(List.of(SitePage.Type.ARTICLE, SitePage.Type.PAGE));
+            final List<String> testNames = testInfo.getTestMethod()
+                .flatMap(method -> AnnotationUtils.findAnnotation(method, LogOnce.class))
+                .map(annotation -> List.of(annotation.value()))
+                .orElse(List.of());
+            for (SitePage.Type type : List.of(SitePage.Type.ARTICLE, SitePage.Type.PAGE)) {
+                if (pageTypes.contains(type)) {
+                    final BitSet planned = checkPlan.plan(type, testNames);
+                    urlIterator.append(type, checkPlan.iterator(planned), planned.cardinality());
+                }
+            }
+            logger.info("Planned {} urls for {}", urlIterator.getTotalCount(), testName);
+        }
+        progressReporter = new ProgressReporter(testName, urlIterator::getDispensedCount, urlIterator.getTotalCount(), () -> getMetrics(TestMetricTypes.FAILED)).start();
+        // merged once the workers are done, see clear()
+        failureSink = FailureSink.open(testName);
+        // published once a worker is done with the url, dropped when it's requeued
+        badURLs = UrlAttempt.holdBack(failureSink);
+        resultsForGitHubHttpStatusTest = UrlAttempt.holdBack(PerThreadMultimap.create());
+        if (progressJournal != null) {
+            progressJournal.restoreResults(testName, badURLs, resultsForGitHubHttpStatusTest);
+            // the links of the urls skipped on resume are verified again
+            progressJournal.restoreLinks(testName, (page, links) -> getLinkChecker().harvest(page, links));
+            badURLs = progressJournal.journalBadURLs(badURLs);
+            resultsForGitHubHttpStatusTest = progressJournal.journalGitHubStatus(resultsForGitHubHttpStatusTest);
+        }
+        if (verdictStore != null) {
+            badURLs = verdictStore.captureBadURLs(testName, badURLs);
+            resultsForGitHubHttpStatusTest = verdictStore.captureGitHubStatus(testName, resultsForGitHubHttpStatusTest);
         }
-        badURLs = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
-        resultsForGitHubHttpStatusTest = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
     }
 
     @BeforeEach
@@ -116,38 +199,171 @@ public class AllUrlsUIBaseTest extends ConcurrentBaseUISeleniumTest {
     }
 
     @AfterEach
-    public void clear() {
-        // if any bad urls in each test then fail
-        if (badURLs.size() > 0 || resultsForGitHubHttpStatusTest.size() > 0) {
-            triggerTestFailure(badURLs, resultsForGitHubHttpStatusTest);
+    public void clear() throws IOException {
+        progressReporter.close();
+        if (linkChecker != null) {
+            reportBrokenLinks();
+        }
+        if (progressJournal != null) {
+            progressJournal.flush();
+        }
+        if (checkPlan != null) {
+            checkPlan.saveWpTags(UrlCatalog.getDefaultLocation());
+        }
+        if (urlShard.isSharded()) {
+            // all the failures, the merged results of the shards are reported like the ones of a single run
+            ShardResults.record(urlShard, failureSink.readAll(), resultsForGitHubHttpStatusTest, getMetrics(TestMetricTypes.FAILED), getExecutedTestsNames(), getFailedTestsNames());
+        }
+        try {
+            // if any bad urls in each test then fail
+            if (badURLs.size() > 0 || resultsForGitHubHttpStatusTest.size() > 0) {
+                triggerTestFailure(badURLs, resultsForGitHubHttpStatusTest);
+            }
+        } finally {
+            failureSink.close();
+        }
+    }
+
+    /**
+     * Hands the links of the page to the link checker, journaled with the url so they're verified again on resume.
+     */
+    protected void harvestLinks(String page, Collection<String> links) {
+        if (progressJournal != null) {
+            progressJournal.recordLinks(page, links);
+        }
+        getLinkChecker().harvest(page, links);
+    }
+
+    private synchronized LinkChecker getLinkChecker() {
+        if (linkChecker == null) {
+            linkChecker = new LinkChecker(CONCURRENCY_LEVEL);
+        }
+        return linkChecker;
+    }
+
+    private void reportBrokenLinks() {
+        try (LinkChecker checker = linkChecker) {
+            for (LinkChecker.BrokenLink brokenLink : checker.awaitBrokenLinks()) {
+                recordMetrics(brokenLink.pages().size(), TestMetricTypes.FAILED);
+                recordFailure(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken, brokenLink.pages().size());
+                for (String page : brokenLink.pages()) {
+                    badURLs.put(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken, "\n" + page + " --> " + brokenLink.link() + " (" + brokenLink.status() + ")");
+                }
+            }
         }
+        linkChecker = null;
     }
 
     protected boolean loadNextURL(SitePage page) {
 
-        Optional<UrlIterator.UrlElement> next = urlIterator.getNext();
-        if (next.isEmpty()) {
-            return false;
+        currentElement.remove();
+        if (progressJournal != null) {
+            progressJournal.begin();
         }
-        UrlIterator.UrlElement element = next.get();
-        page.setUrl(constructUrl(page, element));
+        long start = System.nanoTime();
+        UrlIterator.UrlElement element;
+        do {
+            Optional<UrlIterator.UrlElement> next = urlIterator.getNext();
+            if (next.isEmpty()) {
+                return false;
+            }
+            element = next.get();
+            page.setUrl(constructUrl(page, element));
+        } while (isAlreadyProcessed(page));
         page.setType(SitePage.Type.valueOf(element.tag()));
+        currentElement.set(element);
+        backOff(urlIterator.getRetries(element));
 
-        logger.info("Loading - {}", page.getUrl());
+        final long waitNanos = System.nanoTime() - start;
+
+        logger.trace("Loading - {}", page.getUrl());
+        start = System.nanoTime();
         page.loadUrl();
-        if (page.isNewerThan(ignoreUrlsNewerThanWeeks)) {
-            logger.info("Skipping {} as it's newer than {} weeks", page.getUrl(), ignoreUrlsNewerThanWeeks);
-            loadNextURL(page);
+        final long throttleNanos = page.getLastThrottleNanos();
+        TimingMetrics.record(TimingMetrics.WAIT, page.getType(), waitNanos + throttleNanos);
+        TimingMetrics.record(TimingMetrics.LOAD, page.getType(), System.nanoTime() - start - throttleNanos);
+        if (WorkerFailure.isServerError(page) && urlIterator.requeue(element, MAX_ATTEMPTS)) {
+            logger.warn("Requeued {} as it responded {}", page.getUrl(), page.getDocumentResponse()
+                .get()
+                .status());
+            return loadNextURL(page);
+        }
+        start = System.nanoTime();
+        final boolean isNewer = page.isNewerThan(ignoreUrlsNewerThanWeeks);
+        long extractNanos = System.nanoTime() - start;
+        if (isNewer) {
+            logger.debug("Skipping {} as it's newer than {} weeks", page.getUrl(), ignoreUrlsNewerThanWeeks);
+            return loadNextURL(page);
         }
+        start = System.nanoTime();
         page.setWpTags();
+        extractNanos += System.nanoTime() - start;
+        if (checkPlan != null) {
+            checkPlan.learnWpTags(element.url(), page.getWpTags());
+        }
+        TimingMetrics.record(TimingMetrics.EXTRACT, page.getType(), extractNanos);
 
         if (shouldSkipUrl(page, GlobalConstants.givenAllLongRunningTests_whenHittingAllUrls_thenOK)) {
-            loadNextURL(page);
+            return loadNextURL(page);
         }
 
         return true;
     }
 
+    private boolean isAlreadyProcessed(SitePage page) {
+        if (progressJournal != null && progressJournal.isProcessed(testName, page.getUrl())) {
+            logger.trace("Skipping {} as it's already processed for {}", page.getUrl(), testName);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean requeueURL(SitePage page) {
+        final UrlIterator.UrlElement element = currentElement.get();
+        if (element == null || !urlIterator.requeue(element, MAX_ATTEMPTS)) {
+            return false;
+        }
+        // the url is tested again, the records of this attempt don't count
+        if (progressJournal != null) {
+            progressJournal.discard();
+        }
+        return true;
+    }
+
+    /**
+     * Reports the url as a failure of the test, with why its attempts failed, instead of the records of its last attempt.
+     */
+    private void reportGivenUpURL(SitePage page, WorkerFailure failure, Throwable error) {
+        if (progressJournal != null) {
+            progressJournal.begin();
+        }
+        recordMetrics(1, TestMetricTypes.FAILED);
+        recordFailure(testName);
+        badURLs.put(testName, page.getUrlWithNewLineFeed() + " --> " + failure + ", gave up retrying: " + error.getClass()
+            .getSimpleName());
+    }
+
+    /**
+     * Gives the site or the browser time to recover before a url is tried again.
+     */
+    private void backOff(int retries) {
+        if (retries == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS << Math.min(retries - 1, 10));
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+    private void urlProcessed(SitePage page) {
+        if (progressJournal != null) {
+            progressJournal.commit(testName, page.getUrl());
+        }
+    }
+
     private String constructUrl(SitePage page, UrlIterator.UrlElement element) {
         final StringBuilder urlBuilder = new StringBuilder();
         urlBuilder.append(page.getBaseURL())
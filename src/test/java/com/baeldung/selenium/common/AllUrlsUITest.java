@@ -2,21 +2,26 @@ package com.baeldung.selenium.common;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
+import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.Tag;
 import org.openqa.selenium.WebElement;
 import org.springframework.util.CollectionUtils;
 
 import com.baeldung.common.AllUrlsConcurrentExtension;
+import com.baeldung.common.FullBrowserProfile;
 import com.baeldung.common.GithubRepositories;
 import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.GlobalConstants.TestMetricTypes;
 import com.baeldung.common.LogOnce;
+import com.baeldung.common.MemoizedVerdict;
 import com.baeldung.common.PageTypes;
 import com.baeldung.common.Utils;
+import com.baeldung.common.WebPerformanceHistory;
 import com.baeldung.site.InvalidTitles;
 import com.baeldung.site.SitePage;
 import com.baeldung.utility.TestUtils;
@@ -28,16 +33,21 @@ import dev.yavuztas.junit.ConcurrentTest;
  * Concurrent version of articles and pages test. Other sources can be appended via:
  * <pre>
  *     urlIterator = new UrlIterator();
- *     urlIterator.append(SitePage.Type.ARTICLE, Utils.fetchAllArtilcesAsListIterator());
- *     urlIterator.append(SitePage.Type.PAGE, Utils.fetchAllPagesAsListIterator());
+ *     urlIterator.append(SitePage.Type.ARTICLE, urlCatalog.iterator(SitePage.Type.ARTICLE));
+ *     urlIterator.append(SitePage.Type.PAGE, urlCatalog.iterator(SitePage.Type.PAGE));
  *     urlIterator.append(SitePage.Type.NEW_TAG, Utils.fetchAllNewTagsAsIterator());
  * </pre>
  *
  * Default parallel thread count is 8. This configuration can be set via the system property -Dconcurrency.level=8.
+ * The checks run with a lean browser profile unless annotated with {@link FullBrowserProfile}, e.g. as they need scripts to run, see {@link com.baeldung.selenium.config.BrowserProfile}.
+ * With -Dverdict.store the checks annotated with {@link MemoizedVerdict} are skipped on unchanged content, see {@link com.baeldung.common.VerdictStore}.
+ * With -Dconcurrency.adaptive=true it's adapted to the load of the site and the host, see {@link com.baeldung.common.ConcurrencyController}.
  * For details see: {@link com.baeldung.common.BaseTest}
  */
 public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
+    private static final AtomicBoolean documentResponseSkipLogged = new AtomicBoolean();
+
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite)
@@ -105,6 +115,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
+    @FullBrowserProfile
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainOverlappingText)
     public final void givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainOverlappingText(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainOverlappingText);
@@ -210,6 +221,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
+    @FullBrowserProfile
     @LogOnce(GlobalConstants.givenAllArticles_whenAnalyzingCodeBlocks_thenCodeBlocksAreRenderedProperly)
     public final void givenAllArticles_whenAnalyzingCodeBlocks_thenCodeBlocksAreRenderedProperly(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnalyzingCodeBlocks_thenCodeBlocksAreRenderedProperly);
@@ -226,6 +238,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
+    @FullBrowserProfile
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheSidebar)
     public final void givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheSidebar(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheSidebar);
@@ -247,6 +260,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
+    @FullBrowserProfile
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheAfterPostContent)
     public final void givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheAfterPostContent(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsHasASingleOptinInTheAfterPostContent);
@@ -268,12 +282,13 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
+    @FullBrowserProfile
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsNotBuiltUsingTheThriveArchtect)
     public final void givenAllArticles_whenAnArticleLoads_thenItIsNotBuiltUsingTheThriveArchtect(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsNotBuiltUsingTheThriveArchtect);
 
         if (page.containsThriveArchtectResource()) {
-            logger.info("page found which is build using Thrive Archetect " + page.getUrl());
+            logger.info("page found which is build using Thrive Archetect {}", page.getUrl());
             recordMetrics(1, TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsNotBuiltUsingTheThriveArchtect);
             badURLs.put(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItIsNotBuiltUsingTheThriveArchtect, page.getUrlWithNewLineFeed());
@@ -290,6 +305,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
     @Tag(GlobalConstants.TAG_GITHUB_RELATED)
+    @MemoizedVerdict(region = "//section//a[contains(@href, 'github.com')] | //h1[contains(@class, 'entry-title')]")
     @LogOnce({
         GlobalConstants.givenArticlesWithALinkToTheGitHubModule_whenTheArticleLoads_thenTheGitHubModuleLinksBackToTheArticle,
         GlobalConstants.givenArticlesWithALinkToTheGitHubModule_whenTheArticleLoads_thenTheArticleTitleAndGitHubLinkMatch,
@@ -371,6 +387,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
+    @MemoizedVerdict(region = "//section//h2 | //section//h3 | //a[contains(@rel, 'category tag')]")
     @LogOnce({
         GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperTitleCapitalization,
         GlobalConstants.givenAllArticles_whenAnArticleLoads_thenTheArticleHasProperDotsInTitle
@@ -428,6 +445,7 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
 
     @ConcurrentTest
     @PageTypes(SitePage.Type.ARTICLE)
+    @MemoizedVerdict(region = "//a[contains(@href,'docs.oracle.com/javase/')]")
     @LogOnce(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs)
     public final void givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs(SitePage page) {
         recordExecution(GlobalConstants.givenAllArticles_whenAnArticleLoads_thenItDoesNotLinkToOldJavaDocs);
@@ -471,6 +489,80 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
         }
     }
 
+    /**
+     * Reads the status recorded while the page was loaded, so it runs only with -Dbrowser.document-response=true on Chrome,
+     * otherwise the pages are skipped without counting as executed.
+     */
+    @ConcurrentTest
+    @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
+    @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK)
+    public final void givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK(SitePage page) {
+        if (page.getDocumentResponse()
+            .isEmpty()) {
+            if (documentResponseSkipLogged.compareAndSet(false, true)) {
+                logger.info("Skipping {} as the document responses aren't recorded, they need -D{}=true on Chrome",
+                    GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK, GlobalConstants.ENV_PROPERTY_BROWSER_DOCUMENT_RESPONSE);
+            }
+            return;
+        }
+
+        recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK);
+
+        if (shouldSkipUrl(page, GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK)) {
+            return;
+        }
+
+        page.getDocumentResponse()
+            .filter(response -> response.status() != HttpStatus.SC_OK)
+            .ifPresent(response -> {
+                recordMetrics(1, TestMetricTypes.FAILED);
+                recordFailure(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK);
+                badURLs.put(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK, page.getUrlWithNewLineFeed() + " --> " + response.status());
+            });
+    }
+
+    /**
+     * Only harvests the links of the page, they're verified in the background once per run and the broken ones are reported after all the pages.
+     */
+    @ConcurrentTest
+    @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
+    @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken)
+    public final void givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken(SitePage page) {
+        recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken);
+
+        if (shouldSkipUrl(page, GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken)) {
+            return;
+        }
+
+        harvestLinks(page.getUrl(), page.findLinkTargets());
+    }
+
+    /**
+     * Reads what the browser measured during the page load, see {@link WebPerformanceHistory} for the budgets and the regressions.
+     * A lean window doesn't load the page like a visitor, so the check runs with the full profile.
+     */
+    @ConcurrentTest
+    @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
+    @FullBrowserProfile
+    @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget)
+    public final void givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget(SitePage page) {
+        recordExecution(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget);
+
+        if (shouldSkipUrl(page, GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget)) {
+            return;
+        }
+
+        page.getWebPerformance()
+            .map(performance -> WebPerformanceHistory.getDefault()
+                .evaluate(page.getUrl(), performance))
+            .filter(violations -> !violations.isEmpty())
+            .ifPresent(violations -> {
+                recordMetrics(1, TestMetricTypes.FAILED);
+                recordFailure(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget);
+                badURLs.put(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget, page.getUrlWithNewLineFeed() + " --> " + String.join(", ", violations));
+            });
+    }
+
     @ConcurrentTest
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
     @LogOnce(GlobalConstants.givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainNoindexTag)
@@ -512,14 +604,19 @@ public class AllUrlsUITest extends AllUrlsUIBaseTest {
     @ConcurrentTest
     @Tag(GlobalConstants.TAG_NON_TECHNICAL)
     @PageTypes({ SitePage.Type.PAGE, SitePage.Type.ARTICLE })
+    @FullBrowserProfile
     @LogOnce(GlobalConstants.givenAllTestsRelatedTechnicalArea_whenHittingAllUrls_thenOK)
     public final void givenAllTestsRelatedTechnicalArea_whenHittingAllUrls_thenOK(SitePage page) {
         try {
+            // first, before the other checks scroll or interact with the page
+            givenAllArticlesAndPages_whenAPageLoads_thenItIsWithinThePerformanceBudget(page);
             givenAllArticlesAndPages_whenAnalysingImages_thenImagesDoNotPoinToTheDraftsSite(page);
             givenAllArticlesAndPages_whenAPageLoads_thenMetaOGImageAndTwitterImagePointToTheAbsolutePath(page);
             givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainOverlappingText(page);
             givenAllArticlesAndPages_whenAPageLoads_thenItHasAFeaturedImage(page);
             givenAllArticlesAndPages_whenAPageLoads_thenItDoesNotContainNoindexTag(page);
+            givenAllArticlesAndPages_whenAPageLoads_thenItReturns200OK(page);
+            givenAllArticlesAndPages_whenAPageLoads_thenItsLinksAreNotBroken(page);
             // below tests are only for articles
             if (AllUrlsConcurrentExtension.ensureTag(page, SitePage.Type.ARTICLE)) {
                 givenAllArticles_whenAnArticleLoads_thenArticleHasNoEmptyCodeBlock(page);
@@ -22,7 +22,6 @@ import com.baeldung.crawler4j.controller.TutorialsRepoCrawlerController;
 import com.baeldung.selenium.config.SeleniumContextConfiguration;
 import com.baeldung.site.SitePage;
 import com.google.common.collect.Multimap;
-import com.google.common.util.concurrent.RateLimiter;
 
 @ContextConfiguration(classes = { CommonConfig.class, SeleniumContextConfiguration.class, Crawler4jMainCofig.class }, initializers = MyApplicationContextInitializer.class)
 @ExtendWith(SpringExtension.class)
@@ -34,9 +33,6 @@ public class BaseUISeleniumTest extends BaseTest {
     @Autowired
     protected TutorialsRepoCrawlerController tutorialsRepoCrawlerController;
 
-    @Autowired
-    protected RateLimiter rateLimiter;
-
     @BeforeEach
     public void loadNewWindow() throws IOException {
         page.openNewWindow();
@@ -5,8 +5,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Stream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +16,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.baeldung.common.ConcurrentBaseTest;
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.ProgressReporter;
 import com.baeldung.common.UrlIterator;
 import com.baeldung.common.Utils;
 import com.baeldung.common.config.MyApplicationContextInitializer;
@@ -51,16 +52,26 @@ public class CommonConcurrentUITest extends ConcurrentBaseTest {
     private Multimap<String, Integer> badURLs;
     private RestAssuredConfig restAssuredConfig;
     private Retryer<Boolean> retryer;
+    private ProgressReporter progressReporter;
 
     @BeforeEach
     public void setup() throws IOException {
         urlIterator = new UrlIterator();
         // append all URLs
-        final Stream<String> urlStream = Utils.fetchFilesAsList(pageStausCheckUrlFileNames);
-        urlIterator.append("", urlStream.iterator());
+        final List<String> urls = Utils.fetchFilesAsList(pageStausCheckUrlFileNames)
+            .toList();
+        urlIterator.append("", urls.iterator(), urls.size());
         badURLs = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
         restAssuredConfig = TestUtils.getRestAssuredCustomConfig(timeOutFor200OKTest);
         retryer = Utils.getGuavaRetryer(retriesFor200OKTest);
+        progressReporter = new ProgressReporter(GlobalConstants.givenAListOfUrls_whenAUrlLoads_thenItReturns200OK, urlIterator::getDispensedCount, urls.size(),
+            () -> badURLs.keySet()
+                .size()).start();
+    }
+
+    @AfterEach
+    public void stopProgressReporter() {
+        progressReporter.close();
     }
 
     private synchronized String getNextUrl() {
@@ -85,7 +96,7 @@ public class CommonConcurrentUITest extends ConcurrentBaseTest {
         String url;
         while ((url = getNextUrl()) != null) {
             String fullURL = baseUrl + url;
-            logger.info("Verifying 200OK on: {}", fullURL);
+            logger.trace("Verifying 200OK on: {}", fullURL);
             TestUtils.hitURLUsingGuavaRetryer(restAssuredConfig, fullURL, badURLs, retryer, modeFor200OKTest);
         }
 
@@ -18,10 +18,16 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -31,6 +37,7 @@ import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.jsoup.HttpStatusException;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -52,6 +59,7 @@ import com.baeldung.common.ConsoleColors;
 import com.baeldung.common.GithubRepositories;
 import com.baeldung.common.GlobalConstants;
 import com.baeldung.common.GlobalConstants.TestMetricTypes;
+import com.baeldung.common.HostRateLimitFilter;
 import com.baeldung.common.TestMetricsExtension;
 import com.baeldung.common.Utils;
 import com.baeldung.common.YAMLProperties;
@@ -140,7 +148,7 @@ public class CommonUITest extends BaseUISeleniumTest {
         assertTrue(images.size() > 0, "Couldn't find any images in the after-post-banner-widget on /hibernate-spatial" );
 
         images.forEach(image -> {
-            assertEquals(200, RestAssured.given().head(image.getAttribute("src")).getStatusCode());
+            assertEquals(200, RestAssured.given().filter(HostRateLimitFilter.getDefault()).head(image.getAttribute("src")).getStatusCode());
         });
 
     }
@@ -161,7 +169,7 @@ public class CommonUITest extends BaseUISeleniumTest {
     @Test
     @Tag(GlobalConstants.TAG_DAILY)
     public final void givenBaeldungFeedUrl_whenUrlIsHit_thenItRedirectsToFeedburner() {
-        Response response = RestAssured.given().redirects().follow(false).get(GlobalConstants.BAELDUNG_FEED_URL);
+        Response response = RestAssured.given().filter(HostRateLimitFilter.getDefault()).redirects().follow(false).get(GlobalConstants.BAELDUNG_FEED_URL);
 
         assertTrue(response.getStatusCode() == 301 || response.getStatusCode() == 302, "HTTP staus code is not 301 or 302. Returned status code is: " + response.getStatusCode());
         assertTrue(response.getHeader("Location").replaceAll("/$", "").trim().toLowerCase().contains(GlobalConstants.BAELDUNG_FEED_FEEDFLITZ_URL),
@@ -225,9 +233,8 @@ public class CommonUITest extends BaseUISeleniumTest {
     public final void screenShotTest() throws IOException {
         page.setUrl(page.getBaseURL() + "/jackson");
 
-        TestUtils.sleep(30000);
-
         page.loadUrl();
+        page.waitForDocumentReady(Duration.ofSeconds(30));
 
         TestUtils.takeScreenShot(page.getWebDriver());
 
@@ -262,6 +269,8 @@ public class CommonUITest extends BaseUISeleniumTest {
         List<String> testExceptions= YAMLProperties.exceptionsForTests.get(TestUtils.getMehodName(testInfo.getTestMethod()));
 
         Multimap<String, LinkVO> badURLs = ArrayListMultimap.create();
+        // README and link by article, so an article linked from several READMEs is loaded only once
+        Multimap<String, Map.Entry<String, LinkVO>> readmeLinksByArticle = ArrayListMultimap.create();
         Map<GitHubRepoVO, List<String>> reposReadmes = Utils.getRepoWiseListOfReadmesFromAllTutorialsRepos(false);
         reposReadmes.forEach((repo, readmePaths) -> {
 
@@ -272,16 +281,9 @@ public class CommonUITest extends BaseUISeleniumTest {
                     }
 
                     String reamdmeParentPath = Utils.getTheParentOfReadme(readmePath);
+                    String readmeParentURL = repo.getHttpUrlByLocalPath(reamdmeParentPath);
                     List<LinkVO> urlsInReadmeFile = Utils.extractBaeldungLinksFromReadmeFile(Path.of(readmePath)); // get all the articles linked in this README
-                    urlsInReadmeFile.forEach(link -> {
-                        String staging8Url = Utils.changeLiveUrlWithStaging8(link.getLink());
-                        String readmeParentURL = repo.getHttpUrlByLocalPath(reamdmeParentPath);
-                        page.setUrl(staging8Url);
-                        page.loadUrl(); // loads an article in the browser
-                        if (!page.containsGithubModuleLink(readmeParentURL)) {
-                            badURLs.put(readmeParentURL, link);
-                        }
-                    });
+                    urlsInReadmeFile.forEach(link -> readmeLinksByArticle.put(Utils.changeLiveUrlWithStaging8(link.getLink()), Map.entry(readmeParentURL, link)));
                 } catch (Exception e) {
                     logger.debug("Error while processing {} \nError message {}", readmePath, e.getMessage());
                 }
@@ -289,6 +291,15 @@ public class CommonUITest extends BaseUISeleniumTest {
 
         });
 
+        logger.info("READMEs link {} distinct articles", readmeLinksByArticle.keySet().size());
+        Map<String, Set<String>> moduleLinksByArticle = fetchGitHubModuleLinks(readmeLinksByArticle.keySet());
+        readmeLinksByArticle.forEach((articleUrl, readmeLink) -> {
+            Set<String> moduleLinks = moduleLinksByArticle.get(articleUrl);
+            if (moduleLinks != null && !moduleLinks.contains(Utils.normalizeGitHubModuleUrl(readmeLink.getKey()))) {
+                badURLs.put(readmeLink.getKey(), readmeLink.getValue());
+            }
+        });
+
         if (badURLs.size() > 0 ) {
             recordMetrics(badURLs.size(), TestMetricTypes.FAILED);
             recordFailure(GlobalConstants.givenAGitHubModuleReadme_whenAnalysingTheReadme_thenLinksToAndFromGithubMatch, badURLs.size());
@@ -296,6 +307,49 @@ public class CommonUITest extends BaseUISeleniumTest {
         }
     }
 
+    /**
+     * Fetches the articles concurrently over HTTP, the ones which can't be fetched that way are loaded in the browser.
+     *
+     * @return the normalized GitHub module links by article, the articles which couldn't be loaded are missing
+     */
+    private Map<String, Set<String>> fetchGitHubModuleLinks(Set<String> articleUrls) {
+        Map<String, Set<String>> moduleLinksByArticle = new ConcurrentHashMap<>();
+        Set<String> failedUrls = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY_LEVEL);
+        try {
+            CompletableFuture.allOf(articleUrls.stream()
+                .map(url -> CompletableFuture.runAsync(() -> {
+                    try {
+                        moduleLinksByArticle.put(url, Utils.getGitHubModuleLinks(Utils.getJSoupDocument(url)));
+                    } catch (HttpStatusException e) {
+                        if (e.getStatusCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                            moduleLinksByArticle.put(url, Collections.emptySet());
+                        } else {
+                            failedUrls.add(url);
+                        }
+                    } catch (IOException e) {
+                        failedUrls.add(url);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new))
+                .join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        failedUrls.forEach(url -> {
+            try {
+                page.setUrl(url);
+                page.loadUrl();
+                moduleLinksByArticle.put(url, Utils.getGitHubModuleLinks(Utils.getJSoupDocumentFromPageSource(page.getWebDriver()
+                    .getPageSource(), url)));
+            } catch (Exception e) {
+                logger.debug("Error while processing {} \nError message {}", url, e.getMessage());
+            }
+        });
+        return moduleLinksByArticle;
+    }
+
     @Test
     @Tag(GlobalConstants.TAG_TECHNICAL)
     @Tag(GlobalConstants.TAG_SKIP_METRICS)
@@ -502,14 +556,16 @@ public class CommonUITest extends BaseUISeleniumTest {
 
         String fullUrl = page.getBaseURL() + url;
         logger.info("Processing " + fullUrl);
-        logger.info("Sleep time configured as:" + timeToWaitForPopup);
+        logger.info("Popup wait time configured as:" + timeToWaitForPopup);
 
 
         page.setUrl(fullUrl);
 
         page.loadUrl();
 
-        TestUtils.sleep(timeToWaitForPopup);
+        // watch for a popup until the configured time, a popup makes the click below fail
+        page.waitForDomChange(Duration.ofMillis(timeToWaitForPopup),
+            "return Array.from(document.querySelectorAll('.tve_ea_thrive_leads_form_close')).some(function(e) { return e.offsetParent !== null; })");
 
         page.findElentWithHref("privacy-policy")
                 .ifPresent(element -> element.click());
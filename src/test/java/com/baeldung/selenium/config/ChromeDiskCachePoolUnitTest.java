@@ -0,0 +1,36 @@
+package com.baeldung.selenium.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class ChromeDiskCachePoolUnitTest {
+
+    private final ChromeDiskCachePool pool = new ChromeDiskCachePool(Paths.get("cache"));
+
+    @Test
+    void givenLeasedDirectories_whenLeasingAgain_thenEachSessionGetsItsOwnDirectory() {
+        final Path first = pool.lease();
+        final Path second = pool.lease();
+
+        assertNotEquals(first, second);
+        assertEquals(Paths.get("cache", "session-0"), first);
+    }
+
+    @Test
+    void givenReleasedDirectories_whenLeasing_thenTheLastReleasedIsReused() {
+        final Path first = pool.lease();
+        final Path second = pool.lease();
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(second, pool.lease());
+        assertEquals(first, pool.lease());
+        assertEquals(Paths.get("cache", "session-2"), pool.lease());
+    }
+
+}
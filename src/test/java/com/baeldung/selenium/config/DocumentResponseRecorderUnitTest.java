@@ -0,0 +1,47 @@
+package com.baeldung.selenium.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.baeldung.common.vo.DocumentResponseVO;
+
+public class DocumentResponseRecorderUnitTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void givenARedirectedLoad_whenFinishing_thenTheFinalResponseAndTheRedirectsAreRecorded() {
+        final DocumentResponseRecorder recorder = new DocumentResponseRecorder("main", clock::get);
+
+        recorder.start();
+        recorder.redirected("https://baeldung.com/java-streams", 301);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(120));
+        recorder.responded("https://www.baeldung.com/java-streams", 200);
+
+        assertEquals(new DocumentResponseVO("https://www.baeldung.com/java-streams", 200, List.of("301 https://baeldung.com/java-streams"), 120), recorder.finish(0));
+    }
+
+    @Test
+    void givenEventsOutOfALoad_whenFinishing_thenTheyAreIgnored() {
+        final DocumentResponseRecorder recorder = new DocumentResponseRecorder("main", clock::get);
+
+        recorder.responded("https://www.baeldung.com/java-streams", 200);
+        recorder.start();
+
+        assertNull(recorder.finish(0));
+
+        recorder.responded("https://www.baeldung.com/java-inner-interfaces", 404);
+        recorder.start();
+        recorder.responded("https://www.baeldung.com/java-inner-interfaces", 200);
+
+        assertEquals(200, recorder.finish(0)
+            .status());
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 import org.apache.commons.io.FileUtils;
@@ -18,6 +19,7 @@ import org.openqa.selenium.WebElement;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HostRateLimitFilter;
 import com.baeldung.common.TestMetricsExtension;
 import com.baeldung.selenium.common.BaseUISeleniumTest;
 import com.baeldung.site.HomePageDriver;
@@ -55,7 +57,7 @@ public final class HomePageUITest extends BaseUISeleniumTest {
     @Test
     @Tag(GlobalConstants.TAG_DAILY)
     public final void givenOnTheHomePageUrlWithoutWWWPrefix_whenUrlIsHit_thenItRedirectsToWWW() {
-        Response response = RestAssured.given().redirects().follow(false).head(GlobalConstants.BAELDUNG_HOME_PAGE_URL_WITHOUT_WWW_PREFIX);
+        Response response = RestAssured.given().filter(HostRateLimitFilter.getDefault()).redirects().follow(false).head(GlobalConstants.BAELDUNG_HOME_PAGE_URL_WITHOUT_WWW_PREFIX);
 
         assertEquals(301, response.getStatusCode());
         assertEquals(GlobalConstants.BAELDUNG_HOME_PAGE_URL_WITH_WWW_PREFIX, response.getHeader("Location").replaceAll("/$", ""));
@@ -76,7 +78,7 @@ public final class HomePageUITest extends BaseUISeleniumTest {
         // homePageDriver.getWebDriver().manage().window().maximize();
 
         homePageDriver.loadUrl();
-        Thread.sleep(5000);
+        homePageDriver.waitForDocumentReady(Duration.ofSeconds(30));
 
         File scrFile = ((TakesScreenshot) homePageDriver.getWebDriver()).getScreenshotAs(OutputType.FILE);
 
@@ -11,6 +11,7 @@ import org.openqa.selenium.WebElement;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HostRateLimitFilter;
 import com.baeldung.common.TestMetricsExtension;
 import com.baeldung.selenium.common.BaseUISeleniumTest;
 import com.baeldung.site.SpringMicroservicesGuidePage;
@@ -33,7 +34,7 @@ public final class SpringMicroservicesGuideUITest extends BaseUISeleniumTest {
 
         List<WebElement> elements = springMicroservicesGuidePage.findImages();
         elements.forEach(element -> {
-            assertEquals(200, RestAssured.given().head(element.getAttribute("src")).getStatusCode());
+            assertEquals(200, RestAssured.given().filter(HostRateLimitFilter.getDefault()).head(element.getAttribute("src")).getStatusCode());
         });
 
     }
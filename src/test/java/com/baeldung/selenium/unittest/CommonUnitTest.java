@@ -19,6 +19,7 @@ import org.slf4j.LoggerFactory;
 
 import com.baeldung.common.GithubRepositories;
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HostRateLimitFilter;
 import com.baeldung.common.Utils;
 import com.baeldung.common.vo.GitHubRepoVO;
 import com.baeldung.common.vo.LinkVO;
@@ -69,7 +70,7 @@ public class CommonUnitTest {
 
         String httpUrl = tutorialsRepo.getHttpUrlByLocalPath(readme.toString());
         logger.info("URL to test: {}", httpUrl);
-        assertEquals(200, RestAssured.given().get(httpUrl).getStatusCode());
+        assertEquals(200, RestAssured.given().filter(HostRateLimitFilter.getDefault()).get(httpUrl).getStatusCode());
     }
 
     @Test
@@ -1,15 +1,33 @@
 package com.baeldung.selenium.unittest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
 
+import com.baeldung.common.vo.WebPerformanceVO;
 import com.baeldung.selenium.config.browserConfig;
 import com.baeldung.site.SitePage;
+import com.gargoylesoftware.htmlunit.BrowserVersion;
 
 public class SitePageUnitTest {
 
@@ -35,4 +53,51 @@ public class SitePageUnitTest {
         assertTrue(page.containsGithubModuleLink("https://github.com/baeldung/spring-security-registration/tree/master"));
     }
 
+    @Test
+    void givenPageSourceLinkingAnotherModule_whenCheckContainsGithubModuleLink_thenItIsNotFound() {
+        final WebDriver webDriver = mock(WebDriver.class);
+        final SitePage page = new SitePage(mock(browserConfig.class));
+        when(page.getWebDriver()).thenReturn(webDriver);
+        when(webDriver.getPageSource()).thenReturn("<p>Some text <a href=\"https://github.com/eugenp/tutorials/tree/master/spring-boot-modules/spring-boot-data\">over on GitHub</a></p>");
+
+        assertTrue(page.containsGithubModuleLink("https://github.com/eugenp/tutorials/tree/master/spring-boot-modules/spring-boot-data/"));
+        assertFalse(page.containsGithubModuleLink("https://github.com/eugenp/tutorials/tree/master/spring-boot-modules"));
+    }
+
+    @Test
+    void givenALeanHtmlUnitWindow_whenReadingThePage_thenTheWpTagsComeFromThePageSourceWithoutJavaScript(@TempDir Path pageDir) throws IOException {
+        final Path page = Files.writeString(pageDir.resolve("java-streams.html"),
+            "<html><head><script>var ba_tags = [\"java-streams\",\"no-before-post\"];</script></head><body><p>Some text</p></body></html>");
+        final HtmlUnitDriver webDriver = new HtmlUnitDriver(BrowserVersion.getDefault(), false);
+        try {
+            final browserConfig config = mock(browserConfig.class);
+            when(config.getDriver()).thenReturn(webDriver);
+            final SitePage sitePage = new SitePage(config);
+            webDriver.get(page.toUri()
+                .toString());
+
+            sitePage.setWpTags();
+            sitePage.acceptCookie();
+
+            assertFalse(sitePage.isJavaScriptEnabled());
+            assertEquals(Set.of("java-streams", "no-before-post"), sitePage.getWpTags());
+            assertEquals(Optional.empty(), sitePage.getWebPerformance());
+        } finally {
+            webDriver.quit();
+        }
+    }
+
+    @Test
+    void givenAMeasurementWithoutTransferSizes_whenReadingTheWebPerformance_thenTheMissingValuesCountAsZero() {
+        final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        final browserConfig config = mock(browserConfig.class);
+        when(config.getDriver()).thenReturn(webDriver);
+        final Map<String, Object> measured = new HashMap<>(Map.of("ttfb", 100L, "dcl", 800L, "load", 1200L, "lcp", 0L, "cls", 0.05, "requests", 42L));
+        // NaN in the browser
+        measured.put("bytes", null);
+        when(((JavascriptExecutor) webDriver).executeScript(anyString())).thenReturn(measured);
+
+        assertEquals(Optional.of(new WebPerformanceVO(100, 800, 1200, 0, 0.05, 0, 42)), new SitePage(config).getWebPerformance());
+    }
+
 }
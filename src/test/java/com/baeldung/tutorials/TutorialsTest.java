@@ -52,17 +52,16 @@ public class TutorialsTest extends BaseTest {
         Path repoLocalPath = Paths.get(tutorialsRepo.repoLocalPath());
         Files.walkFileTree(repoLocalPath, modulesFileVisitor);
 
-        Map<String, MavenProjectVO> modules = modulesFileVisitor.getModules();
-        buildParentChildRelation(modules);
+        MavenModuleGraph moduleGraph = new MavenModuleGraph(tutorialsRepo.repoLocalPath(), modulesFileVisitor.getModules().values());
 
         HashMap<String, List<String>> defaultProfiles = new HashMap<>();
         HashMap<String, List<String>> integrationProfiles = new HashMap<>();
         extractModulesForProfile(defaultProfiles, integrationProfiles, tutorialsRepo.repoLocalPath());
 
-        markBuiltModules(modules, defaultProfiles, true);
-        markBuiltModules(modules, integrationProfiles, false);
+        moduleGraph.markBuiltInDefaultProfile(defaultProfiles);
+        moduleGraph.markBuiltInIntegrationProfile(integrationProfiles);
 
-        List<MavenProjectVO> modulesMissingInDefault = modules.values().stream()
+        List<MavenProjectVO> modulesMissingInDefault = moduleGraph.getModules().stream()
                 .filter(module -> {
                     final String modulePath = removeRepoLocalPath(tutorialsRepo, module.getPomFileLocation());
                     return !module.isBuildInDefaultProfile() && !(hasException(testExceptions, modulePath));
@@ -70,7 +69,7 @@ public class TutorialsTest extends BaseTest {
                 .sorted(Comparator.comparing(MavenProjectVO::getPomFileLocation))
                 .collect(Collectors.toList());
 
-        List<MavenProjectVO> modulesMissingInIntegraiton = modules.values().stream()
+        List<MavenProjectVO> modulesMissingInIntegraiton = moduleGraph.getModules().stream()
                 .filter(module -> {
                     final String modulePath = removeRepoLocalPath(tutorialsRepo, module.getPomFileLocation());
                     return !module.isBuildInIntegrationProfile() && !(hasException(testExceptions, modulePath));
@@ -104,72 +103,6 @@ public class TutorialsTest extends BaseTest {
         return exceptionList.contains(path) || exceptionList.contains(path + "/");
     }
 
-    private void markBuiltModules(Map<String, MavenProjectVO> allModules, HashMap<String, List<String>> modulesForProfiles, boolean defaultProfiles) {
-        for (Map.Entry<String, List<String>> modulesForProfile : modulesForProfiles.entrySet()) {
-            for (String module : modulesForProfile.getValue()) {
-                logger.info(magentaColordMessage("Processing moduele: {}"), module);
-                String artifactId = getArtifactId(module);
-                MavenProjectVO mavenProject = allModules.get(artifactId);
-                if (null == mavenProject) {
-                    logger.error(ConsoleColors.redBoldMessage("Couldn't retrieve MavenProjectVO for {}, perhaps module directory and artifactId don't match"), module);
-                    continue;
-                }
-                markBuiltHierarchy(mavenProject, defaultProfiles);
-            }
-        }
-    }
-
-    private String getArtifactId(String module) {
-        return module.contains("/") ? module.substring(module.lastIndexOf("/") + 1) : module;
-    }
-
-    private void markBuiltHierarchy(MavenProjectVO mavenProjectVO, boolean defaultProfiles) {
-        if (defaultProfiles) {
-            mavenProjectVO.setBuildInDefaultProfile(true);
-        } else {
-            mavenProjectVO.setBuildInIntegrationProfile(true);
-        }
-
-        for (MavenProjectVO child : mavenProjectVO.getChildren()) {
-            markBuiltHierarchy(child, defaultProfiles);
-        }
-    }
-
-
-    private void buildParentChildRelation(Map<String, MavenProjectVO> allModules) {
-        for (MavenProjectVO module : allModules.values()) {
-
-            for (String childArtifactId : module.getChildModules()) {
-                childArtifactId = getArtifactId(childArtifactId);
-
-                MavenProjectVO childModule = allModules.get(childArtifactId);
-                if (childModule == null) {
-                    logger.warn("CHILD MODULE NOT FOUND BY ARTIFACT ID: " + childArtifactId);
-                    childModule = findModuleByPath(childArtifactId, allModules);
-                }
-
-                if (childModule == null) {
-                    logger.warn("CHILD MODULE NOT FOUND BY PATH: " + childArtifactId);
-                } else {
-                    childModule.setParent(module);
-                    module.getChildren().add(childModule);
-                }
-            }
-
-        }
-    }
-
-    private MavenProjectVO findModuleByPath(String childFolder, Map<String, MavenProjectVO> modules) {
-        for (MavenProjectVO module : modules.values()) {
-            String pomFileLocation = module.getPomFileLocation();
-            if (pomFileLocation.replace("/" + POM_FILE_NAME_LOWERCASE, "").endsWith(childFolder)) {
-                return module;
-            }
-        }
-
-        return null;
-    }
-
     private void extractModulesForProfile(Map<String, List<String>> defaultProfiles, Map<String, List<String>> integrationProfiles, String repoLocalPath) throws IOException, XmlPullParserException {
         File parentPom = new File(repoLocalPath + "/" + POM_FILE_NAME_LOWERCASE);
 
@@ -0,0 +1,33 @@
+package com.baeldung.utility;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.baeldung.common.ShardResults;
+import com.baeldung.common.Utils;
+import com.baeldung.common.vo.ShardResultVO;
+
+/**
+ * Merges the results of a sharded run and fails with the same report as a single machine run.
+ * Executed after all shards are finished, e.g: mvn test -Dtest=MergeShardResultsTest -Dshard.result.dir=shard-results
+ */
+public class MergeShardResultsTest {
+
+    protected Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Test
+    public final void givenAllShardResults_whenMerged_thenTheMergedResultsHaveNoFailures() throws IOException {
+        final ShardResultVO merged = ShardResults.merge(ShardResults.readAll(ShardResults.getResultDirectory()));
+
+        logger.info(Utils.summarizeExecution(merged.getFailures(), merged.getExecutedTests(), merged.getFailedTests()));
+
+        if (!merged.getBadURLs().isEmpty() || !merged.getResultsForGitHubHttpStatusTest().isEmpty()) {
+            Utils.triggerTestFailure(ShardResults.toMultimap(merged.getBadURLs()), ShardResults.toMultimap(merged.getResultsForGitHubHttpStatusTest()), "Failed tests-->",
+                merged.getFailures());
+        }
+    }
+
+}
@@ -36,8 +36,11 @@ import org.slf4j.LoggerFactory;
 
 import com.baeldung.common.ConsoleColors;
 import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.HostRateLimitFilter;
 import com.baeldung.common.Utils;
 import com.baeldung.common.YAMLProperties;
+import com.baeldung.common.jfr.HttpFetchEvent;
+import com.baeldung.common.jfr.RepoWalkEvent;
 import com.baeldung.common.vo.AdSlotsVO;
 import com.baeldung.common.vo.CoursePurchaseLinksVO;
 import com.baeldung.common.vo.FooterLinksDataVO;
@@ -60,6 +63,11 @@ import io.restassured.config.RestAssuredConfig;
 public class TestUtils {
     protected static Logger logger = LoggerFactory.getLogger(TestUtils.class);
 
+    // colored once, not on every logged error
+    private static final String CONNECTION_ERROR_MESSAGE = ConsoleColors.redBoldMessage("Error which connecting to {}, error message: {}  ");
+    private static final String PARSING_ERROR_MESSAGE = ConsoleColors.redBoldMessage("Error parsing the document for {}, error message: {}  ");
+    private static final String DOCUMENT_ERROR_MESSAGE = ConsoleColors.redBoldMessage("Error parsing the document, error message: {}  ");
+
     protected static RestAssuredConfig restAssuredConfig = TestUtils.getRestAssuredCustomConfig(3000);
 
     private static ObjectMapper ObjectMapper = new ObjectMapper();
@@ -75,8 +83,11 @@ public class TestUtils {
     }
 
     public static Boolean inspectURLHttpStatusCode(RestAssuredConfig restAssuredConfig, String fullURL, Multimap<String, Integer> badURLs, String modeFor200OKTest) {
+        final HttpFetchEvent event = new HttpFetchEvent(fullURL, "GET");
+        event.begin();
         try {
-            int httpStatusCode = RestAssured.given().config(restAssuredConfig).get(fullURL).getStatusCode();
+            int httpStatusCode = RestAssured.given().filter(HostRateLimitFilter.getDefault()).config(restAssuredConfig).get(fullURL).getStatusCode();
+            event.setStatus(httpStatusCode);
 
             if (HttpStatus.SC_OK == httpStatusCode) {
                 if (!badURLs.get(fullURL).isEmpty()) {
@@ -92,35 +103,42 @@ public class TestUtils {
                 badURLs.put(fullURL, httpStatusCode);
                 return true;
             } else {
-                logger.info(httpStatusCode + " Status code received from: " + fullURL);
+                logger.info("{} Status code received from: {}", httpStatusCode, fullURL);
                 badURLs.put(fullURL, httpStatusCode);
                 return null;
             }
 
         } catch (Exception e) {
-            logger.error("Got error while retrieving HTTP status code for:" + fullURL);
-            logger.error("Error Message: " + e.getMessage());
+            logger.error("Got error while retrieving HTTP status code for:{}", fullURL);
+            logger.error("Error Message: {}", e.getMessage());
             badURLs.put(fullURL, -1);
             /*
              * if (logger.isDebugEnabled()) { e.printStackTrace(); }
              */
             return null;
+        } finally {
+            event.commit();
         }
     }
 
     public static Boolean inspectURLHttpStatusCode(RestAssuredConfig restAssuredConfig, String fullURL) {
+        final HttpFetchEvent event = new HttpFetchEvent(fullURL, "HEAD");
+        event.begin();
         try {
-            int httpStatusCode = RestAssured.given().header("cache-control", "no-cache").config(restAssuredConfig).head(fullURL).getStatusCode();
+            int httpStatusCode = RestAssured.given().filter(HostRateLimitFilter.getDefault()).header("cache-control", "no-cache").config(restAssuredConfig).head(fullURL).getStatusCode();
+            event.setStatus(httpStatusCode);
 
             if (HttpStatus.SC_OK == httpStatusCode) {
                 return true;
             }
-            logger.error(httpStatusCode + " received from: {} ", fullURL);
+            logger.error("{} received from: {} ", httpStatusCode, fullURL);
             return false;
         } catch (Exception e) {
-            logger.error("Got error while retrieving HTTP status code for:" + fullURL);
-            logger.error("Error Message: " + e.getMessage());
+            logger.error("Got error while retrieving HTTP status code for:{}", fullURL);
+            logger.error("Error Message: {}", e.getMessage());
             return true;
+        } finally {
+            event.commit();
         }
     }
 
@@ -131,21 +149,12 @@ public class TestUtils {
             httpURLConnection.setRequestMethod("GET");
             return httpURLConnection.getResponseCode();
         } catch (Exception e) {
-            logger.error("Got error while retrieving HTTP status code for:" + URL);
-            logger.error("Error Message: " + e.getMessage());
+            logger.error("Got error while retrieving HTTP status code for:{}", URL);
+            logger.error("Error Message: {}", e.getMessage());
             return -1;
         }
     }
 
-    public static void sleep(int millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            //
-        }
-
-    }
-
     public static void hitURLUsingGuavaRetryer(RestAssuredConfig restAssuredConfig, String fullURL, Multimap<String, Integer> badURLs, Retryer<Boolean> retryer, String modeFor200OKTest) {
         try {
             retryer.call(() -> TestUtils.inspectURLHttpStatusCode(restAssuredConfig, fullURL, badURLs, modeFor200OKTest));
@@ -287,6 +296,8 @@ public class TestUtils {
         final Matcher matcher = ARTICLE_TITLE_AND_LINK_ON_GITHUB_MODULE_PATTERN.matcher("");
         final Map<String, Path> urlToModulePath = new HashMap<>();
 
+        final RepoWalkEvent event = new RepoWalkEvent(repository.repoLocalPath());
+        event.begin();
         try (var tree = Files.walk(Path.of(repository.repoLocalPath()))) {
             tree.map(path -> path.resolve("README.md"))
                 .filter(readme -> Files.exists(readme) && Files.isDirectory(readme.getParent()))
@@ -310,17 +321,26 @@ public class TestUtils {
                 });
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            event.setMatches(urlToModulePath.size());
+            event.commit();
         }
         return urlToModulePath;
     }
 
     public static List<Path> findFilesInLocalModule(Path module, Predicate<String> filterByFileName) {
+        final RepoWalkEvent event = new RepoWalkEvent(module.toString());
+        event.begin();
         try (var tree = Files.walk(module)) {
-            return tree
+            final List<Path> files = tree
                 .filter(path -> filterByFileName.test(path.getFileName().toString()))
                 .collect(Collectors.toList());
+            event.setMatches(files.size());
+            return files;
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            event.commit();
         }
     }
 
@@ -373,7 +393,7 @@ public class TestUtils {
     }
     public static boolean veirfyRedirect(RestAssuredConfig restAssuredConfig, String link, String exprectRedirectTo) {
         try {
-            return RestAssured.given().config(restAssuredConfig).get(link).getHeader("Location").toLowerCase().contains(exprectRedirectTo);
+            return RestAssured.given().filter(HostRateLimitFilter.getDefault()).config(restAssuredConfig).get(link).getHeader("Location").toLowerCase().contains(exprectRedirectTo);
         } catch (Exception e) {
             logger.error("Error while verifying redirect. Error Message: {}", e.getMessage());
             return false;
@@ -414,14 +434,18 @@ public class TestUtils {
     }
 
     public static Stream<Arguments> thankYouPagesUrlsProvider() throws IOException {
-       return Utils.fetchFileAsStream("baeldung-thankyou-pages.txt").map(url -> Arguments.of(url));
+       return thankYouPagesUrls().map(url -> Arguments.of(url));
+    }
+
+    public static Stream<String> thankYouPagesUrls() throws IOException {
+        return Utils.fetchFileAsStream("baeldung-thankyou-pages.txt");
     }
 
     public static BiFunction<Document, String,Boolean> facebookMainEventTrackingScriptExistsOnTKP = (doc, url) -> {
         try {
             return doc.select("script:containsData("+ GlobalConstants.FACEBOOK_MAIN_EVENT_TRACKING_SCRIPT_TKP+")").size() > 0;
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error which connecting to {}, error message: {}  "), url, e.getMessage());
+            logger.error(CONNECTION_ERROR_MESSAGE, url, e.getMessage());
             return false;
         }
     };
@@ -430,7 +454,7 @@ public class TestUtils {
         try {
             return  doc.select("script:containsData(fbq)").stream().map(Element::toString).filter(t -> t.contains(GlobalConstants.FACEBOOK_EVENT_CONVERSION_TRACKING_SCRIPT_TKP)).findFirst().isPresent();
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error which connecting to {}, error message: {}  "), url, e.getMessage());
+            logger.error(CONNECTION_ERROR_MESSAGE, url, e.getMessage());
             return false;
         }
     };
@@ -439,7 +463,7 @@ public class TestUtils {
         try {
             return doc.select("script:containsData("+ GlobalConstants.DRIP_MAIN_EVENT_TRACKING_SCRIPT_TKP+")").size() > 0;
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error parsing the document for {}, error message: {}  "), url, e.getMessage());
+            logger.error(PARSING_ERROR_MESSAGE, url, e.getMessage());
             return false;
         }
     };
@@ -448,7 +472,7 @@ public class TestUtils {
         try {
             return  doc.select("script:containsData(window._dcq)").stream().map(Element::toString).filter(t -> t.contains(GlobalConstants.DRIP_EVENT_CONVERSION_TRACKING_SCRIPT_TKP)).findFirst().isPresent();
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error parsing the document for {}, error message: {}  "), url, e.getMessage());
+            logger.error(PARSING_ERROR_MESSAGE, url, e.getMessage());
             return false;
         }
     };
@@ -457,7 +481,7 @@ public class TestUtils {
         try {
             return doc.select("script:containsData("+ slotId +")").size() > 0;
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error parsing the document, error message: {}  "), e.getMessage());
+            logger.error(DOCUMENT_ERROR_MESSAGE, e.getMessage());
             return false;
         }
     };
@@ -466,7 +490,7 @@ public class TestUtils {
         try {
             return doc.select("script:containsData(" + GlobalConstants.GOOGLE_MAIN_EVENT_TRACKING_SCRIPT_TKP + ")").size() > 0;
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error which connecting to {}, error message: {}  "), url, e.getMessage());
+            logger.error(CONNECTION_ERROR_MESSAGE, url, e.getMessage());
             return false;
         }
     };
@@ -475,7 +499,7 @@ public class TestUtils {
         try {
             return doc.select("script:containsData(gtag)").stream().map(Element::toString).filter(t -> t.contains(GlobalConstants.GOOGLE_EVENT_CONVERSION_TRACKING_SCRIPT_TKP)).findFirst().isPresent();
         } catch (Exception e) {
-            logger.error(ConsoleColors.redBoldMessage("Error which connecting to {}, error message: {}  "), url, e.getMessage());
+            logger.error(CONNECTION_ERROR_MESSAGE, url, e.getMessage());
             return false;
         }
     };
@@ -1,53 +1,43 @@
-package com.baeldung.utility.selenium;
-
-import java.io.IOException;
-
-import org.jdom2.JDOMException;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.TestInstance;
-import org.junit.jupiter.api.TestInstance.Lifecycle;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.test.context.ContextConfiguration;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
-
-import com.baeldung.common.config.CommonConfig;
-import com.baeldung.common.config.MyApplicationContextInitializer;
-import com.baeldung.selenium.BlogLinksExtractor;
-import com.baeldung.selenium.config.SeleniumContextConfiguration;
-import com.baeldung.site.SitePage;
-
-@ContextConfiguration(classes = { CommonConfig.class, SeleniumContextConfiguration.class }, initializers = MyApplicationContextInitializer.class)
-@ExtendWith(SpringExtension.class)
-@TestInstance(Lifecycle.PER_CLASS)
-public class UpdateArticlesAndPagesLinksTest {
-
-    protected Logger logger = LoggerFactory.getLogger(getClass());
-
-    @Autowired
-    BlogLinksExtractor blogLinksExtractor;
-
-    @Autowired
-    protected SitePage page;
-
-    @BeforeAll
-    public void initialize() {
-        page.openNewWindow();
-    }                            
-
-    @Test
-    public final void updateLinksTest() throws IOException, JDOMException {
-        blogLinksExtractor.createArticlesList(page.getWebDriver());
-        blogLinksExtractor.createPagesList();
-    }
-
-    @AfterAll
-    public void cleanup() {
-       page.quiet();
-    }
-
+package com.baeldung.utility.selenium;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jdom2.JDOMException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.baeldung.common.GlobalConstants;
+import com.baeldung.common.UrlCatalog;
+import com.baeldung.common.UrlCatalogWriter;
+import com.baeldung.common.Utils;
+import com.baeldung.common.config.CommonConfig;
+import com.baeldung.common.config.MyApplicationContextInitializer;
+import com.baeldung.selenium.BlogLinksExtractor;
+import com.baeldung.selenium.config.SeleniumContextConfiguration;
+
+@ContextConfiguration(classes = { CommonConfig.class, SeleniumContextConfiguration.class }, initializers = MyApplicationContextInitializer.class)
+@ExtendWith(SpringExtension.class)
+public class UpdateArticlesAndPagesLinksTest {
+
+    protected Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Autowired
+    BlogLinksExtractor blogLinksExtractor;
+
+    @Test
+    public final void updateLinksTest() throws IOException, JDOMException {
+        blogLinksExtractor.createArticlesList();
+        blogLinksExtractor.createPagesList();
+        // refresh the catalog so the next runs pick the new urls up without a rebuild, the learned wp tags are kept
+        final Path urlListDirectory = Paths.get(Utils.getAbsolutePathToFileInSrc(GlobalConstants.ALL_ARTICLES_FILE_NAME)).getParent();
+        UrlCatalogWriter.generate(urlListDirectory, UrlCatalog.getDefaultLocation());
+    }
+
 }
\ No newline at end of file